@@ -0,0 +1,35 @@
+package com.example.benchmarks;
+
+import com.example.evaluationservice.EvaluationserviceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots evaluation-service (services, repositories, Flyway schema) on an in-memory H2 database, without web server.
+ */
+final class EvaluationApp {
+
+    private EvaluationApp() {
+    }
+
+    static ConfigurableApplicationContext start(String database) {
+        return new SpringApplicationBuilder(EvaluationserviceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("prod") // no SQL echo
+                .run(
+                        // graphe-service's application.yaml is on the classpath too: read only this service's file
+                        "--spring.config.location=classpath:/application.yml",
+                        // command-line args: override the MySQL settings of the service's application.yml
+                        "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--eureka.client.enabled=false",
+                        "--evaluation.submissions.queue.enabled=false", // submit() scores in the caller
+                        "--evaluation.autosave.flush-interval-ms=3600000",
+                        "--logging.level.root=WARN"
+                );
+    }
+}
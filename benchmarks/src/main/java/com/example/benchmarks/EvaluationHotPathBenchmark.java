@@ -0,0 +1,96 @@
+package com.example.benchmarks;
+
+import com.example.evaluationservice.dto.SubmissionRowResponse;
+import com.example.evaluationservice.dto.SubmitAnswersRequest;
+import com.example.evaluationservice.dto.SubmitAnswersResponse;
+import com.example.evaluationservice.service.EvaluationService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Student hot path of EvaluationService against a populated H2 database
+ * (defaults: 1k published evaluations x 50 questions, 100k submitted submissions).
+ * Each start/submit opens a submission for a student that never started that evaluation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 10) // Spring + Hibernate + H2: a lot of code to JIT before numbers settle
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class EvaluationHotPathBenchmark {
+
+    @Param("1000")
+    int evaluations;
+
+    @Param("100000")
+    int submissions;
+
+    @Param("50")
+    int questions;
+
+    @Param("5000")
+    int students;
+
+    ConfigurableApplicationContext context;
+    EvaluationService service;
+
+    // fixture students are 1..students, benchmark students start above them
+    final AtomicLong nextStudent = new AtomicLong(10_000_000);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EvaluationApp.start("bench_hot_path");
+        Fixtures fixtures = new Fixtures(context.getBean(JdbcTemplate.class));
+        fixtures.evaluations(evaluations, questions);
+        fixtures.submittedSubmissions(submissions, evaluations, students);
+        service = context.getBean(EvaluationService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    long evaluationOf(long studentId) {
+        return studentId % evaluations + 1;
+    }
+
+    /** An IN_PROGRESS submission opened outside the measured section, and the answers to submit. */
+    @State(Scope.Thread)
+    public static class OpenSubmission {
+        long submissionId;
+        SubmitAnswersRequest request;
+
+        @Setup(Level.Invocation)
+        public void open(EvaluationHotPathBenchmark bench) {
+            long studentId = bench.nextStudent.incrementAndGet();
+            long evaluationId = bench.evaluationOf(studentId);
+            submissionId = bench.service.start(evaluationId, Fixtures.startRequest(studentId)).getSubmissionId();
+            request = Fixtures.submitRequest(studentId, evaluationId, bench.questions);
+        }
+    }
+
+    /** What POST /evaluations/{id}/start runs: snapshot lookup, insert, spliced JSON. */
+    @Benchmark
+    public byte[] start() {
+        long studentId = nextStudent.incrementAndGet();
+        return service.startJson(evaluationOf(studentId), Fixtures.startRequest(studentId), null);
+    }
+
+    @Benchmark
+    public SubmitAnswersResponse submit(OpenSubmission open) {
+        return service.submit(open.submissionId, open.request);
+    }
+
+    @Benchmark
+    public List<SubmissionRowResponse> listSubmissionsForStudent() {
+        return service.listSubmissionsForStudent(ThreadLocalRandom.current().nextLong(students) + 1);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.benchmarks;
+
+import com.example.evaluationservice.dto.StartEvaluationRequest;
+import com.example.evaluationservice.dto.SubmitAnswersRequest;
+import com.example.evaluationservice.persistence.OptionList;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk-loads evaluation fixtures with plain JDBC batches (much faster than going through the service).
+ * Ids are assigned here: evaluations 1..evaluations, question ids contiguous per evaluation.
+ */
+final class Fixtures {
+
+    static final String CORRECT = "b";
+    static final List<String> OPTIONS = List.of("a", "b", "c", "d");
+
+    private static final int BATCH = 5_000;
+
+    private final JdbcTemplate jdbc;
+
+    Fixtures(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** PUBLISHED evaluations 1..count, each with questionsPerEvaluation questions. */
+    void evaluations(int count, int questionsPerEvaluation) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> evaluations = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            evaluations.add(new Object[]{id, "Evaluation " + id, id % 20 + 1, "Introduction of evaluation " + id, now, now});
+        }
+        jdbc.batchUpdate("INSERT INTO evaluations (id, title, prerequisite_level, activity_id, introduction, status, created_at, updated_at) "
+                + "VALUES (?, ?, 'BEGINNER', ?, ?, 'PUBLISHED', ?, ?)", evaluations);
+
+        byte[] options = OptionList.of(OPTIONS).encoded();
+        List<Object[]> questions = new ArrayList<>(BATCH);
+        long questionId = 1;
+        for (long e = 1; e <= count; e++) {
+            for (int p = 1; p <= questionsPerEvaluation; p++) {
+                questions.add(new Object[]{questionId++, e, "Question " + p + " of evaluation " + e, CORRECT, p, options});
+                if (questions.size() == BATCH) flushQuestions(questions);
+            }
+        }
+        flushQuestions(questions);
+    }
+
+    /** SUBMITTED rows spread round-robin over the evaluations and students 1..students. */
+    void submittedSubmissions(int count, int evaluations, int students) {
+        Instant base = Instant.now().minusSeconds(count);
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (long id = 1; id <= count; id++) {
+            Timestamp startedAt = Timestamp.from(base.plusSeconds(id));
+            long studentId = id % students + 1;
+            rows.add(new Object[]{id, id % evaluations + 1, studentId, "Student " + studentId, (int) (id % 101), startedAt, startedAt});
+            if (rows.size() == BATCH) flushSubmissions(rows);
+        }
+        flushSubmissions(rows);
+    }
+
+    /** First question id of an evaluation loaded by {@link #evaluations}. */
+    static long firstQuestionId(long evaluationId, int questionsPerEvaluation) {
+        return (evaluationId - 1) * questionsPerEvaluation + 1;
+    }
+
+    static StartEvaluationRequest startRequest(long studentId) {
+        return StartEvaluationRequest.builder()
+                .studentId(studentId)
+                .studentFullName("Student " + studentId)
+                .studentLevel("L1")
+                .build();
+    }
+
+    /** Answers every question of the evaluation, every other one correctly. */
+    static SubmitAnswersRequest submitRequest(long studentId, long evaluationId, int questionsPerEvaluation) {
+        long first = firstQuestionId(evaluationId, questionsPerEvaluation);
+        List<SubmitAnswersRequest.AnswerItem> answers = new ArrayList<>(questionsPerEvaluation);
+        for (int i = 0; i < questionsPerEvaluation; i++) {
+            answers.add(new SubmitAnswersRequest.AnswerItem(first + i, i % 2 == 0 ? CORRECT : "a"));
+        }
+        return new SubmitAnswersRequest(studentId, answers);
+    }
+
+    private void flushQuestions(List<Object[]> rows) {
+        jdbc.batchUpdate("INSERT INTO evaluation_questions (id, evaluation_id, label, correct_answer, position, weight, options_bin) "
+                + "VALUES (?, ?, ?, ?, ?, 1, ?)", rows);
+        rows.clear();
+    }
+
+    private void flushSubmissions(List<Object[]> rows) {
+        jdbc.batchUpdate("INSERT INTO student_evaluations (id, evaluation_id, activity_id, prerequisite_level, student_id, "
+                + "student_full_name, student_level, status, score, started_at, submitted_at) "
+                + "VALUES (?, ?, 1, 'BEGINNER', ?, ?, 'L1', 'SUBMITTED', ?, ?, ?)", rows);
+        rows.clear();
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.benchmarks;
+
+import com.example.grapheservice.dto.OverviewResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Baseline for OverviewAggregationBenchmark: the submission part of graphe-service's former
+ * AnalyticsService.getOverview, copied as it was (JsonNode rows, one stream pass per metric,
+ * fields re-read through the get*Safe helpers each time).
+ */
+final class LegacyOverview {
+
+    private LegacyOverview() {
+    }
+
+    static OverviewResponse overview(List<JsonNode> submissions, Map<Long, String> activityTitleById) {
+        int totalSubmissions = submissions.size();
+        int submittedCount = (int) submissions.stream()
+                .filter(s -> "SUBMITTED".equalsIgnoreCase(getTextSafe(s, "status")))
+                .count();
+
+        int inProgressCount = (int) submissions.stream()
+                .filter(s -> "IN_PROGRESS".equalsIgnoreCase(getTextSafe(s, "status")))
+                .count();
+
+        // 3) Calculer les étudiants uniques
+        Set<String> uniqueStudents = submissions.stream()
+                .map(s -> getTextSafe(s, "studentFullName"))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        int totalStudents = uniqueStudents.size();
+
+        // 4) Performance par étudiant
+        List<OverviewResponse.StudentPerformanceItem> studentsPerformance = new ArrayList<>();
+        Map<String, List<JsonNode>> byStudent = submissions.stream()
+                .collect(Collectors.groupingBy(s -> getTextSafe(s, "studentFullName")));
+
+        for (Map.Entry<String, List<JsonNode>> entry : byStudent.entrySet()) {
+            String studentName = entry.getKey();
+            List<JsonNode> studentSubmissions = entry.getValue();
+
+            List<Integer> scores = studentSubmissions.stream()
+                    .map(s -> getIntSafe(s, "score"))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+
+            double avgScore = scores.stream().mapToInt(Integer::intValue).average().orElse(0.0);
+            Integer lastScore = scores.isEmpty() ? null : scores.get(scores.size() - 1);
+            boolean atRisk = avgScore > 0 && avgScore < 50;
+
+            studentsPerformance.add(
+                    OverviewResponse.StudentPerformanceItem.builder()
+                            .studentId(0)
+                            .studentName(studentName)
+                            .submissionsCount(studentSubmissions.size())
+                            .avgScore(Math.round(avgScore * 100.0) / 100.0)
+                            .lastScore(lastScore)
+                            .atRisk(atRisk)
+                            .build()
+            );
+        }
+
+        // 5) Distribution des scores
+        int c0_20 = 0, c21_40 = 0, c41_60 = 0, c61_80 = 0, c81_100 = 0;
+        for (JsonNode s : submissions) {
+            Integer score = getIntSafe(s, "score");
+            if (score == null) continue;
+
+            if (score <= 20) c0_20++;
+            else if (score <= 40) c21_40++;
+            else if (score <= 60) c41_60++;
+            else if (score <= 80) c61_80++;
+            else c81_100++;
+        }
+
+        List<OverviewResponse.ScoreDistributionItem> scoreDist = List.of(
+                OverviewResponse.ScoreDistributionItem.builder().range("0-20").count(c0_20).build(),
+                OverviewResponse.ScoreDistributionItem.builder().range("21-40").count(c21_40).build(),
+                OverviewResponse.ScoreDistributionItem.builder().range("41-60").count(c41_60).build(),
+                OverviewResponse.ScoreDistributionItem.builder().range("61-80").count(c61_80).build(),
+                OverviewResponse.ScoreDistributionItem.builder().range("81-100").count(c81_100).build()
+        );
+
+        // 6) Top activités
+        Map<Long, List<JsonNode>> byActivity = submissions.stream()
+                .filter(s -> getLongSafe(s, "activityId") != null)
+                .collect(Collectors.groupingBy(s -> getLongSafe(s, "activityId")));
+
+        List<OverviewResponse.TopActivityItem> topActivities = new ArrayList<>();
+        for (Map.Entry<Long, List<JsonNode>> entry : byActivity.entrySet()) {
+            Long activityId = entry.getKey();
+            List<JsonNode> activitySubmissions = entry.getValue();
+
+            double avgScore = activitySubmissions.stream()
+                    .map(x -> getIntSafe(x, "score"))
+                    .filter(Objects::nonNull)
+                    .mapToInt(Integer::intValue)
+                    .average()
+                    .orElse(0.0);
+
+            String title = activityTitleById.getOrDefault(activityId, "Activity " + activityId);
+
+            topActivities.add(
+                    OverviewResponse.TopActivityItem.builder()
+                            .activityId(activityId)
+                            .activityTitle(title)
+                            .submissionsCount(activitySubmissions.size())
+                            .avgScore(Math.round(avgScore * 100.0) / 100.0)
+                            .build()
+            );
+        }
+
+        topActivities.sort(Comparator.comparingInt(OverviewResponse.TopActivityItem::getSubmissionsCount).reversed());
+
+        // 7) Calculer les étudiants à risque
+        int atRiskCount = (int) studentsPerformance.stream().filter(OverviewResponse.StudentPerformanceItem::isAtRisk).count();
+
+        return OverviewResponse.builder()
+                .totalStudents(totalStudents)
+                .totalSubmissions(totalSubmissions)
+                .submittedCount(submittedCount)
+                .inProgressCount(inProgressCount)
+                .atRiskStudentsCount(atRiskCount)
+                .scoreDistribution(scoreDist)
+                .topActivities(topActivities)
+                .studentsPerformance(studentsPerformance)
+                .build();
+    }
+
+    private static Integer getIntSafe(JsonNode n, String field) {
+        try {
+            JsonNode v = n.get(field);
+            if (v == null || v.isNull()) return null;
+            return v.asInt();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Long getLongSafe(JsonNode n, String field) {
+        try {
+            JsonNode v = n.get(field);
+            if (v == null || v.isNull()) return null;
+            return v.asLong();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String getTextSafe(JsonNode n, String field) {
+        try {
+            JsonNode v = n.get(field);
+            if (v == null || v.isNull()) return null;
+            String t = v.asText();
+            return (t == null || t.isBlank()) ? null : t;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
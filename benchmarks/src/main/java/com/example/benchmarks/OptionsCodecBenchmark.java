@@ -0,0 +1,73 @@
+package com.example.benchmarks;
+
+import com.example.evaluationservice.persistence.OptionList;
+import com.example.evaluationservice.persistence.OptionListConverter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Question options column codec: the former JSON text column (StringListJsonConverter, Jackson)
+ * versus the OptionList binary encoding, read back whole as when the student question list is built.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OptionsCodecBenchmark {
+
+    // same mapper/type as the removed StringListJsonConverter
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> TYPE = new TypeReference<>() {};
+
+    @Param({"4", "10", "50"})
+    int options;
+
+    private final OptionListConverter converter = new OptionListConverter();
+    List<String> list;
+    String json;
+    byte[] binary;
+
+    @Setup
+    public void setUp() throws Exception {
+        list = new ArrayList<>(options);
+        for (int i = 0; i < options; i++) list.add("Option " + (i + 1) + " — réponse possible");
+        json = MAPPER.writeValueAsString(list);
+        binary = OptionList.of(list).encoded();
+    }
+
+    @Benchmark
+    public void readJson(Blackhole bh) throws Exception {
+        List<String> decoded = MAPPER.readValue(json, TYPE);
+        for (String o : decoded) bh.consume(o);
+    }
+
+    @Benchmark
+    public void readBinary(Blackhole bh) {
+        List<String> decoded = converter.convertToEntityAttribute(binary);
+        for (String o : decoded) bh.consume(o);
+    }
+
+    /** Loading a question whose options are never read (e.g. scoring). */
+    @Benchmark
+    public List<String> wrapBinaryOnly() {
+        return converter.convertToEntityAttribute(binary);
+    }
+
+    @Benchmark
+    public String writeJson() throws Exception {
+        return MAPPER.writeValueAsString(list);
+    }
+
+    @Benchmark
+    public byte[] writeBinary() {
+        return converter.convertToDatabaseColumn(list);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.benchmarks;
+
+import com.example.grapheservice.aggregation.SubmissionAggregator;
+import com.example.grapheservice.dto.OverviewResponse;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * graphe-service dashboard, submission metrics: the former JsonNode multi-pass computation (LegacyOverview)
+ * versus the single-pass SubmissionAggregator, from the raw /api/v1/submissions body to the response lists.
+ * legacyPassesOnly starts from an already parsed tree, to separate parsing from the passes themselves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g"}) // the 1M rows tree alone is about 1 GB
+public class OverviewAggregationBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int ACTIVITIES = 200;
+
+    @State(Scope.Benchmark)
+    public static class Payload {
+
+        @Param({"10000", "100000", "1000000"})
+        int rows;
+
+        byte[] submissionsJson;
+        final Map<Long, String> activityTitles = new HashMap<>();
+
+        @Setup
+        public void setUp() {
+            for (long id = 1; id <= ACTIVITIES; id++) activityTitles.put(id, "Activity title " + id);
+            submissionsJson = submissions(rows).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ParsedTree {
+
+        List<JsonNode> submissions;
+
+        @Setup
+        public void setUp(Payload payload) throws IOException {
+            submissions = rows(MAPPER.readTree(payload.submissionsJson));
+        }
+    }
+
+    @Benchmark
+    public OverviewResponse legacyTreeMultiPass(Payload payload) throws IOException {
+        return LegacyOverview.overview(rows(MAPPER.readTree(payload.submissionsJson)), payload.activityTitles);
+    }
+
+    @Benchmark
+    public OverviewResponse legacyPassesOnly(Payload payload, ParsedTree tree) {
+        return LegacyOverview.overview(tree.submissions, payload.activityTitles);
+    }
+
+    @Benchmark
+    public OverviewResponse singlePass(Payload payload) throws IOException {
+        SubmissionAggregator aggregator;
+        try (JsonParser p = MAPPER.getFactory().createParser(payload.submissionsJson)) {
+            aggregator = SubmissionAggregator.from(p);
+        }
+        List<OverviewResponse.StudentPerformanceItem> students = aggregator.studentsPerformance();
+        return OverviewResponse.builder()
+                .totalStudents(aggregator.distinctStudents())
+                .totalSubmissions(aggregator.total())
+                .submittedCount(aggregator.submitted())
+                .inProgressCount(aggregator.inProgress())
+                .atRiskStudentsCount((int) students.stream().filter(OverviewResponse.StudentPerformanceItem::isAtRisk).count())
+                .scoreDistribution(aggregator.scoreDistribution())
+                .topActivities(aggregator.topActivities(payload.activityTitles))
+                .studentsPerformance(students)
+                .build();
+    }
+
+    // same shape as evaluation-service's SubmissionRowResponse; ~20 submissions per student, 1 in 5 still in progress
+    static String submissions(int rows) {
+        Random random = new Random(42);
+        int students = Math.max(1, rows / 20);
+        Instant t0 = Instant.parse("2025-01-06T08:00:00Z");
+        StringBuilder json = new StringBuilder(rows * 300).append('[');
+        for (int i = 0; i < rows; i++) {
+            boolean submitted = random.nextInt(5) != 0;
+            Instant started = t0.plusSeconds(i);
+            if (i > 0) json.append(',');
+            json.append("{\"submissionId\":").append(i + 1)
+                    .append(",\"studentFullName\":\"Student ").append(random.nextInt(students)).append('"')
+                    .append(",\"studentLevel\":\"INTERMEDIATE\"")
+                    .append(",\"evaluationTitle\":\"Evaluation ").append(i % 50).append('"')
+                    .append(",\"activityId\":").append(1 + random.nextInt(ACTIVITIES))
+                    .append(",\"prerequisiteLevel\":\"BEGINNER\"")
+                    .append(",\"score\":").append(submitted ? String.valueOf(random.nextInt(101)) : "null")
+                    .append(",\"startedAt\":\"").append(started).append('"')
+                    .append(",\"submittedAt\":").append(submitted ? "\"" + started.plusSeconds(1200) + "\"" : "null")
+                    .append(",\"status\":\"").append(submitted ? "SUBMITTED" : "IN_PROGRESS").append("\"}");
+        }
+        return json.append(']').toString();
+    }
+
+    private static List<JsonNode> rows(JsonNode root) {
+        List<JsonNode> result = new ArrayList<>(root.size());
+        root.forEach(result::add);
+        return result;
+    }
+}
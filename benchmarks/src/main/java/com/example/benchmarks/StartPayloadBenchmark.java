@@ -0,0 +1,72 @@
+package com.example.benchmarks;
+
+import com.example.evaluationservice.cache.PublishedEvaluationCache;
+import com.example.evaluationservice.cache.PublishedEvaluationSnapshot;
+import com.example.evaluationservice.dto.StartEvaluationResponse;
+import com.example.evaluationservice.service.EvaluationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of the start response only (no database): the DTO serialized by Jackson on every request
+ * versus the snapshot's pre-rendered bytes with submissionId/startedAt spliced in.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartPayloadBenchmark {
+
+    private static final long EVALUATION_ID = 1;
+
+    @Param({"20", "100", "500"})
+    int questions;
+
+    ConfigurableApplicationContext context;
+    ObjectMapper objectMapper;
+    PublishedEvaluationSnapshot snapshot;
+    long submissionId = 42;
+    Instant startedAt = Instant.now();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EvaluationApp.start("bench_start_payload");
+        new Fixtures(context.getBean(JdbcTemplate.class)).evaluations(1, questions);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        // first start loads the snapshot into the cache, exactly as the service builds it
+        context.getBean(EvaluationService.class).startJson(EVALUATION_ID, Fixtures.startRequest(1), null);
+        snapshot = context.getBean(PublishedEvaluationCache.class).get(EVALUATION_ID, () -> {
+            throw new IllegalStateException("snapshot not cached");
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] dtoJackson() throws Exception {
+        return objectMapper.writeValueAsBytes(StartEvaluationResponse.builder()
+                .submissionId(submissionId)
+                .evaluationId(snapshot.getEvaluationId())
+                .title(snapshot.getTitle())
+                .introduction(snapshot.getIntroduction())
+                .startedAt(startedAt)
+                .questions(snapshot.getQuestions())
+                .build());
+    }
+
+    @Benchmark
+    public byte[] splicedBytes() throws Exception {
+        return snapshot.renderStartResponse(submissionId, objectMapper.writeValueAsBytes(startedAt));
+    }
+}
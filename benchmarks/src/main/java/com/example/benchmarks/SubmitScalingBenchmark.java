@@ -0,0 +1,64 @@
+package com.example.benchmarks;
+
+import com.example.evaluationservice.dto.SubmitAnswersRequest;
+import com.example.evaluationservice.dto.SubmitAnswersResponse;
+import com.example.evaluationservice.service.EvaluationService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * submit() latency distribution as the question count grows: scoring, answer batch insert and stats
+ * upsert should stay linear in the number of answers, with a constant number of statements.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 10) // Spring + Hibernate + H2: a lot of code to JIT before numbers settle
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class SubmitScalingBenchmark {
+
+    private static final int EVALUATIONS = 10;
+
+    @Param({"10", "50", "200"})
+    int questions;
+
+    ConfigurableApplicationContext context;
+    EvaluationService service;
+    final AtomicLong nextStudent = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EvaluationApp.start("bench_submit_scaling");
+        new Fixtures(context.getBean(JdbcTemplate.class)).evaluations(EVALUATIONS, questions);
+        service = context.getBean(EvaluationService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class OpenSubmission {
+        long submissionId;
+        SubmitAnswersRequest request;
+
+        @Setup(Level.Invocation)
+        public void open(SubmitScalingBenchmark bench) {
+            long studentId = bench.nextStudent.incrementAndGet();
+            long evaluationId = studentId % EVALUATIONS + 1;
+            submissionId = bench.service.start(evaluationId, Fixtures.startRequest(studentId)).getSubmissionId();
+            request = Fixtures.submitRequest(studentId, evaluationId, bench.questions);
+        }
+    }
+
+    @Benchmark
+    public SubmitAnswersResponse submit(OpenSubmission open) {
+        return service.submit(open.submissionId, open.request);
+    }
+}
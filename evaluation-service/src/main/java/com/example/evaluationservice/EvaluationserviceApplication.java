@@ -2,8 +2,10 @@ package com.example.evaluationservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class EvaluationserviceApplication {
     public static void main(String[] args) {
         SpringApplication.run(EvaluationserviceApplication.class, args);
@@ -0,0 +1,143 @@
+package com.example.evaluationservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * LRU cache of published evaluation snapshots, bounded by approximate size in bytes.
+ * Concurrent misses on the same id share one load, so an exam-start burst hits the DB once.
+ */
+@Component
+public class PublishedEvaluationCache {
+
+    private final long maxBytes;
+
+    // access-ordered => iteration starts at the least recently used entry
+    private final LinkedHashMap<Long, PublishedEvaluationSnapshot> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final ConcurrentHashMap<Long, CompletableFuture<PublishedEvaluationSnapshot>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private long weightBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public PublishedEvaluationCache(
+            MeterRegistry registry,
+            @Value("${evaluation.cache.published.max-bytes:16777216}") long maxBytes
+    ) {
+        this.maxBytes = maxBytes;
+        this.hits = Counter.builder("evaluation.cache.published.requests").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("evaluation.cache.published.requests").tag("result", "miss").register(registry);
+        this.evictions = Counter.builder("evaluation.cache.published.evictions").register(registry);
+        Gauge.builder("evaluation.cache.published.size", this, PublishedEvaluationCache::size).register(registry);
+        Gauge.builder("evaluation.cache.published.weight", this, PublishedEvaluationCache::weightBytes)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public PublishedEvaluationSnapshot get(Long evaluationId, Supplier<PublishedEvaluationSnapshot> loader) {
+        synchronized (entries) {
+            PublishedEvaluationSnapshot cached = entries.get(evaluationId);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+
+        CompletableFuture<PublishedEvaluationSnapshot> mine = new CompletableFuture<>();
+        CompletableFuture<PublishedEvaluationSnapshot> inFlight = loading.putIfAbsent(evaluationId, mine);
+        if (inFlight != null) return await(inFlight);
+
+        long generation = invalidations.get();
+        try {
+            PublishedEvaluationSnapshot loaded = loader.get();
+            // an invalidation during the load means the snapshot may already be stale
+            if (generation == invalidations.get()) put(evaluationId, loaded);
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(evaluationId, mine);
+        }
+    }
+
+    /** Evicts now and, when called inside a transaction, again once it commits. */
+    public void invalidate(Long evaluationId) {
+        evict(evaluationId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(evaluationId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long weightBytes() {
+        synchronized (entries) {
+            return weightBytes;
+        }
+    }
+
+    private void evict(Long evaluationId) {
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            PublishedEvaluationSnapshot removed = entries.remove(evaluationId);
+            if (removed != null) weightBytes -= removed.weight();
+        }
+    }
+
+    private void put(Long evaluationId, PublishedEvaluationSnapshot snapshot) {
+        long w = snapshot.weight();
+        if (w > maxBytes) return;
+
+        synchronized (entries) {
+            PublishedEvaluationSnapshot previous = entries.put(evaluationId, snapshot);
+            if (previous != null) weightBytes -= previous.weight();
+            weightBytes += w;
+
+            Iterator<Map.Entry<Long, PublishedEvaluationSnapshot>> it = entries.entrySet().iterator();
+            while (weightBytes > maxBytes && it.hasNext()) {
+                Map.Entry<Long, PublishedEvaluationSnapshot> eldest = it.next();
+                if (eldest.getKey().equals(evaluationId)) continue;
+                weightBytes -= eldest.getValue().weight();
+                it.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private static PublishedEvaluationSnapshot await(CompletableFuture<PublishedEvaluationSnapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+}
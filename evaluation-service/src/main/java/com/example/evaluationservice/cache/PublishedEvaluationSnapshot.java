@@ -0,0 +1,64 @@
+package com.example.evaluationservice.cache;
+
+import com.example.evaluationservice.domain.PrerequisiteLevel;
+import com.example.evaluationservice.dto.QuestionStudentResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Immutable view of a PUBLISHED evaluation: what start() and the student question list need,
+ * with the student question list and the constant part of the start response already rendered as JSON.
+ */
+@Getter
+@AllArgsConstructor
+public class PublishedEvaluationSnapshot {
+
+    private static final int FIXED_OVERHEAD_BYTES = 256;
+    private static final byte[] SUBMISSION_ID_PREFIX = "{\"submissionId\":".getBytes(StandardCharsets.UTF_8);
+
+    private final Long evaluationId;
+    private final String title;
+    private final String introduction;
+    private final Long activityId;
+    private final PrerequisiteLevel prerequisiteLevel;
+    private final List<QuestionStudentResponse> questions;
+    private final byte[] questionsJson;
+
+    // StartEvaluationResponse split around its per-student fields:
+    // {"submissionId":<id>,  startHead  <startedAt>  startTail
+    private final byte[] startHead; // "evaluationId":..,"title":..,"introduction":..,"startedAt":
+    private final byte[] startTail; // ,"questions":[...]}
+
+    /** Splices the per-student fields into the pre-rendered start response. */
+    public byte[] renderStartResponse(long submissionId, byte[] startedAtJson) {
+        byte[] id = Long.toString(submissionId).getBytes(StandardCharsets.US_ASCII);
+        byte[] out = new byte[SUBMISSION_ID_PREFIX.length + id.length + 1
+                + startHead.length + startedAtJson.length + startTail.length];
+
+        int pos = 0;
+        pos = append(out, pos, SUBMISSION_ID_PREFIX);
+        pos = append(out, pos, id);
+        out[pos++] = ',';
+        pos = append(out, pos, startHead);
+        pos = append(out, pos, startedAtJson);
+        append(out, pos, startTail);
+        return out;
+    }
+
+    /** Approximate retained size, used to bound the cache in bytes rather than entries. */
+    public long weight() {
+        // json bytes + DTO copies of the same text + the start response tail that embeds the json again
+        long w = FIXED_OVERHEAD_BYTES + questionsJson.length * 3L + startHead.length;
+        if (title != null) w += title.length() * 2L;
+        if (introduction != null) w += introduction.length() * 2L;
+        return w;
+    }
+
+    private static int append(byte[] out, int pos, byte[] chunk) {
+        System.arraycopy(chunk, 0, out, pos, chunk.length);
+        return pos + chunk.length;
+    }
+}
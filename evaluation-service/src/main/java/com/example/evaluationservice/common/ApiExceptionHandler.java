@@ -30,6 +30,22 @@ public class ApiExceptionHandler {
         return build(HttpStatus.BAD_REQUEST, e.getMessage());
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, Object>> conflict(ConflictException e) {
+        return build(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    @ExceptionHandler(ChangesExpiredException.class)
+    public ResponseEntity<Map<String, Object>> gone(ChangesExpiredException e) {
+        return build(HttpStatus.GONE, e.getMessage());
+    }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<Map<String, Object>> busy(ServiceBusyException e) {
+        ResponseEntity<Map<String, Object>> res = build(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        return ResponseEntity.status(res.getStatusCode()).header(HttpHeaders.RETRY_AFTER, "5").body(res.getBody());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> manv(MethodArgumentNotValidException e) {
         String msg = e.getBindingResult().getAllErrors().isEmpty()
@@ -0,0 +1,9 @@
+package com.example.evaluationservice.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.GONE)
+public class ChangesExpiredException extends RuntimeException {
+    public ChangesExpiredException(String message) { super(message); }
+}
@@ -0,0 +1,93 @@
+package com.example.evaluationservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions opened by the application (e.g. @Transactional(readOnly = true)
+ * service methods) to the replica pool and everything else to the primary.
+ * <p>
+ * Spring Data repositories run their finders in an implicit read-only transaction when called
+ * outside one; those stay on the primary so the student flow keeps reading its own writes
+ * (start, then autosave / submit) whatever the replication lag. So do read-only transactions named
+ * {@link #PRIMARY_TX_NAME}: reads whose result outlives the transaction (cached snapshots).
+ * <p>
+ * If the replica cannot hand out a connection, the read falls back to the primary and the
+ * replica is skipped for {@code retryAfterMs}.
+ * Must be wrapped in a LazyConnectionDataSourceProxy: the read-only flag is only known once the
+ * transaction has started, after JPA asked for its connection.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+    private static final String REPOSITORY_TX_PREFIX = "org.springframework.data.";
+
+    /** Transaction name that keeps a read-only transaction on the primary. */
+    public static final String PRIMARY_TX_NAME = "evaluation.primary-read";
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long retryAfterMs;
+    private volatile long replicaDownUntil;
+
+    private final Counter toPrimary;
+    private final Counter toReplica;
+    private final Counter fallbacks;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry, long retryAfterMs) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryAfterMs = retryAfterMs;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.toPrimary = meterRegistry.counter("evaluation.datasource.connections", "pool", "primary");
+        this.toReplica = meterRegistry.counter("evaluation.datasource.connections", "pool", "replica");
+        this.fallbacks = meterRegistry.counter("evaluation.datasource.replica.fallbacks");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) return Target.PRIMARY;
+
+        String txName = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (txName != null && (txName.startsWith(REPOSITORY_TX_PREFIX) || txName.equals(PRIMARY_TX_NAME))) {
+            return Target.PRIMARY;
+        }
+
+        return System.currentTimeMillis() < replicaDownUntil ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Target.REPLICA) {
+            try {
+                Connection c = replica.getConnection();
+                toReplica.increment();
+                return c;
+            } catch (SQLException e) {
+                replicaDownUntil = System.currentTimeMillis() + retryAfterMs;
+                fallbacks.increment();
+                log.warn("Replica unavailable, reading from primary for the next {} ms: {}", retryAfterMs, e.getMessage());
+            }
+        }
+        toPrimary.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+}
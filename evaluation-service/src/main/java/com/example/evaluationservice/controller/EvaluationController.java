@@ -2,10 +2,15 @@ package com.example.evaluationservice.controller;
 
 import com.example.evaluationservice.dto.*;
 import com.example.evaluationservice.service.EvaluationService;
+import com.example.evaluationservice.service.EvaluationStatsService;
+import com.example.evaluationservice.service.RescoreService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -14,6 +19,8 @@ import java.util.List;
 public class EvaluationController {
 
     private final EvaluationService service;
+    private final RescoreService rescoreService;
+    private final EvaluationStatsService statsService;
 
     // =========================
     // PROF - CRUD ÉVALUATIONS
@@ -80,9 +87,9 @@ public class EvaluationController {
     // QUESTIONS - STUDENT
     // =========================
 
-    @GetMapping("/{id}/questions/student")
-    public List<QuestionStudentResponse> listQuestionsStudent(@PathVariable("id") Long id) {
-        return service.listQuestionsStudent(id);
+    @GetMapping(value = "/{id}/questions/student", produces = MediaType.APPLICATION_JSON_VALUE)
+    public byte[] listQuestionsStudent(@PathVariable("id") Long id) {
+        return service.listQuestionsStudentJson(id);
     }
 
     // =========================
@@ -98,12 +105,39 @@ public class EvaluationController {
     // STUDENT - START
     // =========================
 
-    @PostMapping("/{id}/start")
-    public StartEvaluationResponse start(
+    @PostMapping(value = "/{id}/start", produces = MediaType.APPLICATION_JSON_VALUE)
+    public byte[] start(
             @PathVariable("id") Long id,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody StartEvaluationRequest req
     ) {
-        return service.start(id, req);
+        // StartEvaluationResponse, rendered from the cached published snapshot
+        return service.startJson(id, req, idempotencyKey);
+    }
+
+    // =========================
+    // PROF - STATS (maintained on submit)
+    // =========================
+
+    @GetMapping("/{id}/stats")
+    public EvaluationStatsResponse stats(@PathVariable("id") Long id) {
+        return statsService.get(id);
+    }
+
+    // =========================
+    // PROF - RESCORE (after answer-key fix)
+    // =========================
+
+    @PostMapping("/{id}/rescore")
+    public ResponseEntity<RescoreStatusResponse> rescore(@PathVariable("id") Long id) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/evaluations/" + id + "/rescore"))
+                .body(rescoreService.start(id));
+    }
+
+    @GetMapping("/{id}/rescore")
+    public RescoreStatusResponse rescoreStatus(@PathVariable("id") Long id) {
+        return rescoreService.status(id);
     }
 
     // =========================
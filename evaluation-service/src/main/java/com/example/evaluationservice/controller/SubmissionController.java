@@ -1,14 +1,29 @@
 package com.example.evaluationservice.controller;
 
+import com.example.evaluationservice.dto.SubmissionChangePageResponse;
+import com.example.evaluationservice.dto.SubmissionPageResponse;
 import com.example.evaluationservice.dto.SubmissionRowResponse;
 import com.example.evaluationservice.dto.SubmitAnswersRequest;
-import com.example.evaluationservice.dto.SubmitAnswersResponse;
+import com.example.evaluationservice.dto.SubmitJobStatusResponse;
 import com.example.evaluationservice.dto.SubmissionDetailResponse;
+import com.example.evaluationservice.service.AutosaveService;
 import com.example.evaluationservice.service.EvaluationService;
+import com.example.evaluationservice.service.SubmissionChangeFeed;
+import com.example.evaluationservice.service.SubmissionQueueService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -17,19 +32,31 @@ import java.util.List;
 public class SubmissionController {
 
     private final EvaluationService service;
+    private final SubmissionQueueService queue;
+    private final AutosaveService autosave;
+    private final SubmissionChangeFeed changes;
+    private final ObjectMapper objectMapper;
+
+    private static final String NDJSON = "application/x-ndjson";
 
 
 /**
  * Admin analytics endpoints (used by graphe-service).
  * - /api/v1/submissions?evaluationId=...   -> submissions for one evaluation
  * - /api/v1/submissions?studentId=...      -> submissions for one student
+ * - /api/v1/submissions?changedSince=...   -> submissions started, submitted or re-scored since (ISO instant),
+ *                                             ordered by updatedAt
  * - /api/v1/submissions                    -> all submissions
  */
 @GetMapping
 public List<SubmissionRowResponse> list(
         @RequestParam(name = "evaluationId", required = false) Long evaluationId,
-        @RequestParam(name = "studentId", required = false) Long studentId
+        @RequestParam(name = "studentId", required = false) Long studentId,
+        @RequestParam(name = "changedSince", required = false) Instant changedSince
 ) {
+    if (changedSince != null) {
+        return service.listSubmissionsChangedSince(changedSince);
+    }
     if (evaluationId != null) {
         return service.listSubmissionsForEvaluation(evaluationId);
     }
@@ -39,13 +66,105 @@ public List<SubmissionRowResponse> list(
     return service.listAllSubmissions();
 }
 
+    /**
+     * Keyset pagination: /api/v1/submissions/page?limit=500&after={nextCursor}
+     */
+    @GetMapping("/page")
+    public SubmissionPageResponse page(
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit", defaultValue = "100") int limit,
+            @RequestParam(name = "evaluationId", required = false) Long evaluationId,
+            @RequestParam(name = "studentId", required = false) Long studentId
+    ) {
+        return service.listSubmissionsPage(after, limit, evaluationId, studentId);
+    }
+
+    /**
+     * Change feed: /api/v1/submissions/changes?since={nextSince}&waitMs=20000
+     * Without since: no items, nextSince = current head. With waitMs, the request is held (long-poll)
+     * until a change after since commits or the wait ends (empty page). 410 when since is older than
+     * the retained changes.
+     */
+    @GetMapping("/changes")
+    public DeferredResult<SubmissionChangePageResponse> changes(
+            @RequestParam(name = "since", required = false) Long since,
+            @RequestParam(name = "limit", defaultValue = "500") int limit,
+            @RequestParam(name = "waitMs", defaultValue = "0") long waitMs
+    ) {
+        return changes.poll(since, limit, waitMs);
+    }
+
+    /**
+     * Full export as NDJSON (one SubmissionRowResponse per line), streamed from the database row by row.
+     */
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void export(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+
+        ObjectWriter writer = objectMapper.writerFor(SubmissionRowResponse.class);
+        OutputStream out = response.getOutputStream();
+
+        service.forEachSubmissionRow(row -> {
+            try {
+                out.write(writer.writeValueAsBytes(row));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
+
+    /**
+     * Synchronous by default. With "Prefer: respond-async" the answers are queued and
+     * 202 is returned with a Location to poll (GET /{submissionId}/submit-status).
+     */
     @PostMapping("/{submissionId}/submit")
-    public SubmitAnswersResponse submit(
+    public ResponseEntity<?> submit(
             @PathVariable("submissionId") Long submissionId,
+            @RequestHeader(name = "Prefer", required = false) String prefer,
             @Valid @RequestBody SubmitAnswersRequest request
     ) {
+        if (prefer != null && prefer.contains("respond-async")) {
+            SubmitJobStatusResponse accepted = queue.accept(submissionId, request);
+            return ResponseEntity.accepted()
+                    .location(URI.create(accepted.getStatusUrl()))
+                    .header("Preference-Applied", "respond-async")
+                    .body(accepted);
+        }
         // ✅ call the method that exists in EvaluationService
-        return service.submit(submissionId, request);
+        return ResponseEntity.ok(service.submit(submissionId, request));
+    }
+
+    /**
+     * Autosave: answers are kept in memory and written in periodic batches; submit includes them.
+     */
+    @PatchMapping("/{submissionId}/answers")
+    public ResponseEntity<Void> saveAnswers(
+            @PathVariable("submissionId") Long submissionId,
+            @Valid @RequestBody SubmitAnswersRequest request
+    ) {
+        autosave.save(submissionId, request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{submissionId}/answers")
+    public List<SubmitAnswersRequest.AnswerItem> savedAnswers(@PathVariable("submissionId") Long submissionId) {
+        return autosave.getDraft(submissionId);
+    }
+
+    @GetMapping("/{submissionId}/submit-status")
+    public SubmitJobStatusResponse submitStatus(@PathVariable("submissionId") Long submissionId) {
+        return queue.status(submissionId);
+    }
+
+    /**
+     * Batch detail for the grading screen: /api/v1/submissions/details?ids=1,2,3 (one query).
+     */
+    @GetMapping("/details")
+    public List<SubmissionDetailResponse> details(@RequestParam(name = "ids") List<Long> ids) {
+        return service.getSubmissionDetails(ids);
     }
 
     @GetMapping("/{submissionId}")
@@ -0,0 +1,8 @@
+package com.example.evaluationservice.domain;
+
+public enum SubmissionChangeType {
+    STARTED,
+    SUBMITTED,
+    RESCORED,
+    DELETED // with its evaluation
+}
@@ -0,0 +1,8 @@
+package com.example.evaluationservice.domain;
+
+public enum SubmissionJobStatus {
+    PENDING,
+    PROCESSING,
+    DONE,
+    FAILED
+}
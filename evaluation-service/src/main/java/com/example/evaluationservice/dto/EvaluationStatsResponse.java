@@ -0,0 +1,37 @@
+package com.example.evaluationservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class EvaluationStatsResponse {
+
+    private Long evaluationId;
+    private long submissions;
+    private Double averageScore;      // null when nothing submitted yet
+    private Double standardDeviation;
+    private int passScore;
+    private Double passRate;          // share of scores >= passScore
+    private List<ScoreBucket> histogram;
+    private List<QuestionStats> questions;
+
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class ScoreBucket {
+        private int from;
+        private int to;
+        private long count;
+    }
+
+    // item analysis: difficulty = share of attempts answered correctly (p-value)
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class QuestionStats {
+        private Long questionId;
+        private Integer position;
+        private String label;
+        private long attempts;
+        private long answered;
+        private long correct;
+        private Double difficulty;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.evaluationservice.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
 import lombok.*;
 
 import java.util.List;
@@ -15,4 +16,9 @@ public class QuestionCreateRequest {
 
     @NotBlank
     private String correctAnswer; // doit être exactement dans options
+
+    @Positive
+    private Integer weight; // optionnel, 1 par défaut
+
+    private List<Integer> optionCredits; // optionnel : crédit partiel (% du poids) de chaque option, dans l'ordre de options
 }
@@ -11,4 +11,6 @@ public class QuestionProfessorResponse {
     private List<String> options;
     private String correctAnswer;
     private Integer position;
+    private Integer weight;
+    private List<Integer> optionCredits; // null = tout ou rien
 }
@@ -0,0 +1,19 @@
+package com.example.evaluationservice.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class RescoreStatusResponse {
+    private Long evaluationId;
+    private String state;               // RUNNING / DONE / FAILED
+    private long totalSubmissions;
+    private long processedSubmissions;
+    private long changedSubmissions;
+    private long changedAnswers;
+    private double submissionsPerSecond;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+}
@@ -0,0 +1,12 @@
+package com.example.evaluationservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class SubmissionChangePageResponse {
+    private List<SubmissionChangeResponse> items;
+    private long nextSince; // pass as ?since= to get what follows
+    private boolean hasMore;
+}
@@ -0,0 +1,16 @@
+package com.example.evaluationservice.dto;
+
+import com.example.evaluationservice.domain.SubmissionChangeType;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class SubmissionChangeResponse {
+    private long sequence;
+    private SubmissionChangeType type;
+    private Instant changedAt;
+    private Long submissionId;
+    private Long evaluationId;
+    private SubmissionRowResponse submission; // current state of the row, null once it is deleted
+}
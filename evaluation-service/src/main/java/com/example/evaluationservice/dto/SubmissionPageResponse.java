@@ -0,0 +1,12 @@
+package com.example.evaluationservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class SubmissionPageResponse {
+    private List<SubmissionRowResponse> items;
+    private Long nextCursor; // pass as ?after= to get the next page, null on last page
+    private boolean hasMore;
+}
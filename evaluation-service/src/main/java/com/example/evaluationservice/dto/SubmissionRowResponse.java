@@ -18,4 +18,5 @@ public class SubmissionRowResponse {
     private Instant startedAt;
     private Instant submittedAt;
     private SubmissionStatus status;
+    private Instant updatedAt;
 }
@@ -0,0 +1,16 @@
+package com.example.evaluationservice.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class SubmitJobStatusResponse {
+    private Long submissionId;
+    private String status;      // PENDING / PROCESSING / DONE / FAILED
+    private int attempts;
+    private Integer score;      // set when DONE
+    private Instant submittedAt;
+    private String error;       // set when FAILED
+    private String statusUrl;
+}
@@ -10,7 +10,9 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.Instant;
 
 @Entity
-@Table(name = "evaluations")
+@Table(name = "evaluations", indexes = {
+        @Index(name = "idx_evaluations_status_id", columnList = "status, id")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Evaluation {
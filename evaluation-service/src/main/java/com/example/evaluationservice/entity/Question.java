@@ -1,13 +1,15 @@
 package com.example.evaluationservice.entity;
 
-import com.example.evaluationservice.persistence.StringListJsonConverter;
+import com.example.evaluationservice.persistence.OptionListConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.List;
 
 @Entity
-@Table(name = "evaluation_questions")
+@Table(name = "evaluation_questions", indexes = {
+        @Index(name = "idx_questions_evaluation_position", columnList = "evaluation_id, position")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Question {
@@ -28,8 +30,15 @@ public class Question {
     @Column(nullable=false)
     private Integer position;
 
-    // ✅ stored in options_json (TEXT), JSON array ["a","b","c"]
-    @Convert(converter = StringListJsonConverter.class)
-    @Column(name="options_json", columnDefinition="TEXT")
+    // scoring weight, null = 1
+    private Integer weight;
+
+    // partial credit in percent of the weight, one byte per option (same order); null = all-or-nothing
+    @Column(name="option_credits")
+    private byte[] optionCredits;
+
+    // ✅ stored in options_bin as length-prefixed UTF-8 (see OptionList), decoded lazily
+    @Convert(converter = OptionListConverter.class)
+    @Column(name="options_bin", columnDefinition="BLOB")
     private List<String> options;
 }
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "student_answers")
+@Table(name = "student_answers", indexes = {
+        @Index(name = "idx_answers_submission_question", columnList = "submission_id, question_id")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class StudentAnswer {
@@ -4,11 +4,21 @@ import com.example.evaluationservice.domain.PrerequisiteLevel;
 import com.example.evaluationservice.domain.SubmissionStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
 
 @Entity
-@Table(name="student_evaluations")
+@Table(name="student_evaluations", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_student_evaluations_in_progress", columnNames = "in_progress_key"),
+        @UniqueConstraint(name = "uk_student_evaluations_idempotency", columnNames = "idempotency_key")
+}, indexes = {
+        @Index(name = "idx_submissions_student_started", columnList = "student_id, started_at"),
+        @Index(name = "idx_submissions_eval_student_status", columnList = "evaluation_id, student_id, status, started_at"),
+        @Index(name = "idx_submissions_eval_started", columnList = "evaluation_id, started_at"),
+        @Index(name = "idx_submissions_eval_status_id", columnList = "evaluation_id, status, id"),
+        @Index(name = "idx_submissions_updated_id", columnList = "updated_at, id")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class StudentEvaluation {
@@ -45,4 +55,21 @@ public class StudentEvaluation {
 
     @Column(name="submitted_at")
     private Instant submittedAt;
+
+    // set on insert and on every update: incremental readers pull rows changed since a watermark
+    @UpdateTimestamp
+    @Column(name="updated_at")
+    private Instant updatedAt;
+
+    // "evaluationId:studentId" while IN_PROGRESS, null once submitted => at most one open attempt per student
+    @Column(name="in_progress_key", length = 64)
+    private String inProgressKey;
+
+    // client supplied Idempotency-Key of the start request that created this submission
+    @Column(name="idempotency_key", length = 128)
+    private String idempotencyKey;
+
+    public static String inProgressKey(Long evaluationId, Long studentId) {
+        return evaluationId + ":" + studentId;
+    }
 }
@@ -0,0 +1,66 @@
+package com.example.evaluationservice.entity;
+
+import com.example.evaluationservice.domain.SubmissionJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+
+/**
+ * Durable queue entry for an asynchronous submit: the answers are stored here first and
+ * scored later by SubmissionWorker.
+ */
+@Entity
+@Table(name = "submission_jobs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_submission_jobs_submission", columnNames = "submission_id")
+}, indexes = {
+        @Index(name = "idx_jobs_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_jobs_claimed_by_status", columnList = "claimed_by, status")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class SubmissionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name="submission_id", nullable=false)
+    private Long submissionId;
+
+    @Column(name="student_id", nullable=false)
+    private Long studentId;
+
+    // SubmitAnswersRequest.answers as JSON
+    @Column(name="answers_json", columnDefinition="TEXT", nullable=false)
+    private String answersJson;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable=false, length = 16)
+    private SubmissionJobStatus status;
+
+    @Column(nullable=false)
+    private int attempts;
+
+    @Column(name="next_attempt_at", nullable=false)
+    private Instant nextAttemptAt;
+
+    @Column(name="claimed_by", length = 36)
+    private String claimedBy;
+
+    @Column(name="claimed_at")
+    private Instant claimedAt;
+
+    @Column(name="last_error", length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name="created_at", updatable=false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name="updated_at")
+    private Instant updatedAt;
+}
@@ -0,0 +1,89 @@
+package com.example.evaluationservice.persistence;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Flyway migration 1.5: backfill from the old options_json TEXT column to options_bin
+ * (added by V1_4, read by everything after it). Picked up by Spring Boot as a {@link JavaMigration} bean,
+ * so it runs once, in version order, before Hibernate validates the schema. Rows are converted in batches;
+ * on a fresh schema there is nothing to convert.
+ */
+@Component
+public class LegacyOptionsMigrator implements JavaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyOptionsMigrator.class);
+    private static final TypeReference<List<String>> TYPE = new TypeReference<>() {};
+    private static final int BATCH = 500;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("1.5");
+    }
+
+    @Override
+    public String getDescription() {
+        return "backfill options bin";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        long migrated = 0, invalid = 0;
+        while (true) {
+            List<Object[]> rows = new ArrayList<>();
+            jdbc.query("""
+                    SELECT id, options_json FROM evaluation_questions
+                    WHERE options_bin IS NULL AND options_json IS NOT NULL
+                    ORDER BY id LIMIT ?""",
+                    rs -> {
+                        long id = rs.getLong(1);
+                        String json = rs.getString(2);
+                        List<String> options;
+                        try {
+                            options = json.isBlank() ? List.of() : mapper.readValue(json, TYPE);
+                        } catch (Exception e) {
+                            // same fallback as the old converter; options_json is kept for inspection
+                            log.warn("Question {} has invalid options_json, storing no options", id);
+                            rows.add(new Object[]{OptionList.EMPTY.encoded(), json, id});
+                            return;
+                        }
+                        rows.add(new Object[]{OptionList.of(options).encoded(), null, id});
+                    },
+                    BATCH);
+            if (rows.isEmpty()) break;
+
+            jdbc.batchUpdate("UPDATE evaluation_questions SET options_bin = ?, options_json = ? WHERE id = ?", rows);
+            for (Object[] r : rows) {
+                if (r[1] == null) migrated++; else invalid++;
+            }
+        }
+        if (migrated + invalid > 0) {
+            log.info("Migrated options of {} questions to options_bin ({} invalid)", migrated + invalid, invalid);
+        }
+    }
+}
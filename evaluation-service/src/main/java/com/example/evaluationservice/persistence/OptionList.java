@@ -0,0 +1,121 @@
+package com.example.evaluationservice.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of question options backed by its own storage encoding:
+ * <pre>[version=1][varint count] then count x ([varint utf8 length][utf8 bytes])</pre>
+ * Wrapping a column value only walks the length prefixes; each option is decoded the first
+ * time it is read, and writing an unchanged list back returns the same bytes.
+ */
+public final class OptionList extends AbstractList<String> implements RandomAccess {
+
+    static final byte VERSION = 1;
+
+    public static final OptionList EMPTY = of(List.of());
+
+    private final byte[] encoded;
+    private final int[] starts;
+    private final int[] ends;
+    private final String[] decoded;
+
+    private OptionList(byte[] encoded, int[] starts, int[] ends) {
+        this.encoded = encoded;
+        this.starts = starts;
+        this.ends = ends;
+        this.decoded = new String[starts.length];
+    }
+
+    public static OptionList of(List<String> options) {
+        if (options instanceof OptionList ol) return ol;
+
+        byte[][] parts = new byte[options.size()][];
+        int size = 1 + varintSize(parts.length);
+        for (int i = 0; i < parts.length; i++) {
+            String o = options.get(i);
+            if (o == null) throw new IllegalArgumentException("Option cannot be null");
+            parts[i] = o.getBytes(StandardCharsets.UTF_8);
+            size += varintSize(parts[i].length) + parts[i].length;
+        }
+
+        byte[] out = new byte[size];
+        out[0] = VERSION;
+        int pos = writeVarint(out, 1, parts.length);
+        for (byte[] p : parts) {
+            pos = writeVarint(out, pos, p.length);
+            System.arraycopy(p, 0, out, pos, p.length);
+            pos += p.length;
+        }
+        return wrap(out);
+    }
+
+    public static OptionList wrap(byte[] encoded) {
+        if (encoded.length == 0 || encoded[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported options encoding");
+        }
+        int[] pos = {1};
+        int count = readVarint(encoded, pos);
+
+        int[] starts = new int[count];
+        int[] ends = new int[count];
+        for (int i = 0; i < count; i++) {
+            int len = readVarint(encoded, pos);
+            starts[i] = pos[0];
+            ends[i] = pos[0] + len;
+            if (ends[i] > encoded.length) throw new IllegalArgumentException("Truncated options encoding");
+            pos[0] = ends[i];
+        }
+        if (pos[0] != encoded.length) throw new IllegalArgumentException("Trailing bytes in options encoding");
+
+        return new OptionList(encoded, starts, ends);
+    }
+
+    public byte[] encoded() {
+        return encoded;
+    }
+
+    @Override
+    public String get(int index) {
+        String s = decoded[index];
+        if (s == null) {
+            int from = starts[index];
+            s = new String(encoded, from, ends[index] - from, StandardCharsets.UTF_8);
+            decoded[index] = s; // benign race: Strings are safely published
+        }
+        return s;
+    }
+
+    @Override
+    public int size() {
+        return decoded.length;
+    }
+
+    private static int varintSize(int v) {
+        int n = 1;
+        while ((v >>>= 7) != 0) n++;
+        return n;
+    }
+
+    private static int writeVarint(byte[] out, int pos, int v) {
+        while ((v & ~0x7F) != 0) {
+            out[pos++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out[pos++] = (byte) v;
+        return pos;
+    }
+
+    private static int readVarint(byte[] in, int[] pos) {
+        int v = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (pos[0] >= in.length) throw new IllegalArgumentException("Truncated options encoding");
+            byte b = in[pos[0]++];
+            v |= (b & 0x7F) << shift;
+            if (b >= 0) return v;
+        }
+        throw new IllegalArgumentException("Malformed options encoding");
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.evaluationservice.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+import java.util.List;
+
+/**
+ * Stores question options as {@link OptionList} bytes: loading a question wraps the column
+ * value without parsing it, and saving an unchanged question writes the same bytes back.
+ */
+@Converter
+@Immutable
+public class OptionListConverter implements AttributeConverter<List<String>, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(List<String> attribute) {
+        if (attribute == null) return null;
+        return OptionList.of(attribute).encoded();
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null || dbData.length == 0) return OptionList.EMPTY;
+        return OptionList.wrap(dbData);
+    }
+}
@@ -1,37 +0,0 @@
-package com.example.evaluationservice.persistence;
-
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.persistence.AttributeConverter;
-import jakarta.persistence.Converter;
-
-import java.util.ArrayList;
-import java.util.List;
-
-@Converter
-public class StringListJsonConverter implements AttributeConverter<List<String>, String> {
-
-    private static final ObjectMapper mapper = new ObjectMapper();
-    private static final TypeReference<List<String>> TYPE = new TypeReference<>() {};
-
-    @Override
-    public String convertToDatabaseColumn(List<String> attribute) {
-        try {
-            if (attribute == null) return null;
-            return mapper.writeValueAsString(attribute);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Cannot serialize options list to JSON", e);
-        }
-    }
-
-    @Override
-    public List<String> convertToEntityAttribute(String dbData) {
-        try {
-            if (dbData == null || dbData.isBlank()) return new ArrayList<>();
-            return mapper.readValue(dbData, TYPE);
-        } catch (Exception e) {
-            // si dbData n'est pas un JSON valide => on retourne liste vide (évite 500)
-            return new ArrayList<>();
-        }
-    }
-}
@@ -0,0 +1,172 @@
+package com.example.evaluationservice.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * evaluation_stats / evaluation_question_stats: running sums updated with atomic
+ * "col = col + ?" statements, so concurrent submits never read-modify-write.
+ * passed counts scores >= evaluation.stats.pass-score exactly (the buckets are only 10 points wide).
+ */
+@Repository
+public class EvaluationStatsRepository {
+
+    public static final int BUCKETS = 10;
+
+    private static final String[] BUCKET_COLUMNS = {
+            "bucket_0", "bucket_1", "bucket_2", "bucket_3", "bucket_4",
+            "bucket_5", "bucket_6", "bucket_7", "bucket_8", "bucket_9"
+    };
+
+    private static final String UPSERT_QUESTION_SQL = """
+            INSERT INTO evaluation_question_stats (evaluation_id, question_id, attempts, answered, correct)
+            VALUES (?, ?, 1, ?, ?)
+            ON DUPLICATE KEY UPDATE attempts = attempts + 1,
+                                    answered = answered + VALUES(answered),
+                                    correct = correct + VALUES(correct)""";
+
+    private static final String ADD_CORRECT_SQL =
+            "UPDATE evaluation_question_stats SET correct = correct + ? WHERE evaluation_id = ? AND question_id = ?";
+
+    private final JdbcTemplate jdbc;
+    private final int passScore;
+
+    public EvaluationStatsRepository(JdbcTemplate jdbc, @Value("${evaluation.stats.pass-score:50}") int passScore) {
+        this.jdbc = jdbc;
+        this.passScore = passScore;
+    }
+
+    public int passScore() {
+        return passScore;
+    }
+
+    /** 0..100 -> 0..9, 100 falls in the last bucket. */
+    public static int bucketOf(int score) {
+        return Math.max(0, Math.min(score / 10, BUCKETS - 1));
+    }
+
+    public void recordSubmission(long evaluationId, int score, long[] questionIds, boolean[] answered, boolean[] correct) {
+        String bucket = BUCKET_COLUMNS[bucketOf(score)];
+        jdbc.update("INSERT INTO evaluation_stats (evaluation_id, submissions, score_sum, score_sum_sq, passed, " + bucket + ") "
+                        + "VALUES (?, 1, ?, ?, ?, 1) "
+                        + "ON DUPLICATE KEY UPDATE submissions = submissions + 1, "
+                        + "score_sum = score_sum + VALUES(score_sum), "
+                        + "score_sum_sq = score_sum_sq + VALUES(score_sum_sq), "
+                        + "passed = passed + VALUES(passed), "
+                        + bucket + " = " + bucket + " + 1",
+                evaluationId, score, (long) score * score, score >= passScore ? 1 : 0);
+
+        jdbc.batchUpdate(UPSERT_QUESTION_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, evaluationId);
+                ps.setLong(2, questionIds[i]);
+                ps.setInt(3, answered[i] ? 1 : 0);
+                ps.setInt(4, correct[i] ? 1 : 0);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return questionIds.length;
+            }
+        });
+    }
+
+    /**
+     * Applies the effect of re-scored submissions: scores moved from one value to another
+     * (count unchanged) and per-question correct counts moved by a delta.
+     */
+    public void applyRescore(long evaluationId, List<int[]> scoreChanges, Map<Long, Integer> correctDeltaByQuestion) {
+        if (!scoreChanges.isEmpty()) {
+            long sum = 0, sumSq = 0, passed = 0;
+            long[] buckets = new long[BUCKETS];
+            for (int[] c : scoreChanges) {
+                int before = c[0], after = c[1];
+                sum += after - before;
+                sumSq += (long) after * after - (long) before * before;
+                passed += (after >= passScore ? 1 : 0) - (before >= passScore ? 1 : 0);
+                buckets[bucketOf(before)]--;
+                buckets[bucketOf(after)]++;
+            }
+
+            StringBuilder sql = new StringBuilder("UPDATE evaluation_stats SET score_sum = score_sum + ?, score_sum_sq = score_sum_sq + ?, passed = passed + ?");
+            List<Object> args = new ArrayList<>(List.of(sum, sumSq, passed));
+            for (int b = 0; b < BUCKETS; b++) {
+                if (buckets[b] == 0) continue;
+                sql.append(", ").append(BUCKET_COLUMNS[b]).append(" = ").append(BUCKET_COLUMNS[b]).append(" + ?");
+                args.add(buckets[b]);
+            }
+            sql.append(" WHERE evaluation_id = ?");
+            args.add(evaluationId);
+            jdbc.update(sql.toString(), args.toArray());
+        }
+
+        if (!correctDeltaByQuestion.isEmpty()) {
+            var rows = correctDeltaByQuestion.entrySet().stream().filter(e -> e.getValue() != 0).toList();
+            jdbc.batchUpdate(ADD_CORRECT_SQL, rows, rows.size(), (ps, e) -> {
+                ps.setInt(1, e.getValue());
+                ps.setLong(2, evaluationId);
+                ps.setLong(3, e.getKey());
+            });
+        }
+    }
+
+    public void deleteByEvaluationId(long evaluationId) {
+        jdbc.update("DELETE FROM evaluation_question_stats WHERE evaluation_id = ?", evaluationId);
+        jdbc.update("DELETE FROM evaluation_stats WHERE evaluation_id = ?", evaluationId);
+    }
+
+    public Optional<Totals> findTotals(long evaluationId) {
+        return jdbc.query("SELECT * FROM evaluation_stats WHERE evaluation_id = ?", rs -> {
+            if (!rs.next()) return Optional.empty();
+            long[] buckets = new long[BUCKETS];
+            for (int b = 0; b < BUCKETS; b++) buckets[b] = rs.getLong(BUCKET_COLUMNS[b]);
+            return Optional.of(new Totals(rs.getLong("submissions"), rs.getLong("score_sum"), rs.getLong("score_sum_sq"),
+                    rs.getLong("passed"), buckets));
+        }, evaluationId);
+    }
+
+    /** One row per current question of the evaluation, in position order (zeros when never attempted). */
+    public List<QuestionTotals> findQuestionTotals(long evaluationId) {
+        return jdbc.query("""
+                        SELECT q.id, q.position, q.label,
+                               COALESCE(s.attempts, 0) AS attempts, COALESCE(s.answered, 0) AS answered, COALESCE(s.correct, 0) AS correct
+                        FROM evaluation_questions q
+                        LEFT JOIN evaluation_question_stats s ON s.evaluation_id = q.evaluation_id AND s.question_id = q.id
+                        WHERE q.evaluation_id = ?
+                        ORDER BY q.position""",
+                (rs, i) -> new QuestionTotals(rs.getLong("id"), rs.getInt("position"), rs.getString("label"),
+                        rs.getLong("attempts"), rs.getLong("answered"), rs.getLong("correct")),
+                evaluationId);
+    }
+
+    @Getter @AllArgsConstructor
+    public static class Totals {
+        private final long submissions;
+        private final long scoreSum;
+        private final long scoreSumSq;
+        private final long passed;
+        private final long[] buckets;
+    }
+
+    @Getter @AllArgsConstructor
+    public static class QuestionTotals {
+        private final long questionId;
+        private final int position;
+        private final String label;
+        private final long attempts;
+        private final long answered;
+        private final long correct;
+    }
+}
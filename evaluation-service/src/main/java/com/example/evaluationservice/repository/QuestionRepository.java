@@ -2,11 +2,32 @@ package com.example.evaluationservice.repository;
 
 import com.example.evaluationservice.entity.Question;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findByEvaluationIdOrderByPositionAsc(Long evaluationId);
     long countByEvaluationId(Long evaluationId);
-    void deleteByEvaluationId(Long evaluationId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Question q where q.evaluationId = :evaluationId")
+    int deleteByEvaluationId(@Param("evaluationId") Long evaluationId);
+
+    // ✅ one grouped COUNT for a whole list of evaluations
+    @Query("""
+            select q.evaluationId as evaluationId, count(q) as questionsCount
+            from Question q
+            where q.evaluationId in :evaluationIds
+            group by q.evaluationId
+            """)
+    List<QuestionCount> countGroupedByEvaluationId(@Param("evaluationIds") Collection<Long> evaluationIds);
+
+    interface QuestionCount {
+        Long getEvaluationId();
+        long getQuestionsCount();
+    }
 }
@@ -0,0 +1,23 @@
+package com.example.evaluationservice.repository;
+
+import com.example.evaluationservice.entity.StudentAnswer;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Batched write path for answers. IDENTITY ids prevent Hibernate from batching inserts,
+ * so answers are written with one JDBC batch per submission instead of one round trip per row.
+ */
+public interface StudentAnswerBatchRepository {
+    void insertAll(List<StudentAnswer> answers);
+
+    /** Plain (unmanaged) answer rows of many submissions in one query, for bulk re-scoring. */
+    List<StudentAnswer> loadForSubmissions(Collection<Long> submissionIds);
+
+    /** Writes back the correct flag of the given answers (by id) in one batch. */
+    void updateCorrect(List<StudentAnswer> answers);
+
+    /** Replaces the (submission, question) draft rows of attempts that are still IN_PROGRESS. */
+    void saveDrafts(List<StudentAnswer> drafts);
+}
@@ -0,0 +1,86 @@
+package com.example.evaluationservice.repository;
+
+import com.example.evaluationservice.entity.StudentAnswer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class StudentAnswerBatchRepositoryImpl implements StudentAnswerBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO student_answers (chosen_answer, correct, question_id, submission_id) VALUES (?, ?, ?, ?)";
+
+    private static final String SELECT_FOR_SUBMISSIONS_SQL =
+            "SELECT id, chosen_answer, correct, question_id, submission_id FROM student_answers WHERE submission_id IN (:ids)";
+
+    private static final String UPDATE_CORRECT_SQL = "UPDATE student_answers SET correct = ? WHERE id = ?";
+
+    // drafts only land on attempts still IN_PROGRESS: a flush racing submit() writes nothing
+    private static final String DELETE_DRAFT_SQL = """
+            DELETE FROM student_answers
+            WHERE submission_id = ? AND question_id = ?
+              AND submission_id IN (SELECT id FROM student_evaluations WHERE id = ? AND status = 'IN_PROGRESS')""";
+
+    private static final String INSERT_DRAFT_SQL = """
+            INSERT INTO student_answers (chosen_answer, correct, question_id, submission_id)
+            SELECT ?, FALSE, ?, id FROM student_evaluations WHERE id = ? AND status = 'IN_PROGRESS'""";
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate namedJdbc;
+
+    @Override
+    public void insertAll(List<StudentAnswer> answers) {
+        if (answers == null || answers.isEmpty()) return;
+
+        jdbc.batchUpdate(INSERT_SQL, answers, answers.size(), (ps, a) -> {
+            ps.setString(1, a.getChosenAnswer());
+            ps.setBoolean(2, Boolean.TRUE.equals(a.getCorrect()));
+            ps.setLong(3, a.getQuestionId());
+            ps.setLong(4, a.getSubmissionId());
+        });
+    }
+
+    @Override
+    public List<StudentAnswer> loadForSubmissions(Collection<Long> submissionIds) {
+        if (submissionIds == null || submissionIds.isEmpty()) return List.of();
+
+        return namedJdbc.query(SELECT_FOR_SUBMISSIONS_SQL, Map.of("ids", submissionIds), (rs, n) -> StudentAnswer.builder()
+                .id(rs.getLong(1))
+                .chosenAnswer(rs.getString(2))
+                .correct(rs.getBoolean(3))
+                .questionId(rs.getLong(4))
+                .submissionId(rs.getLong(5))
+                .build());
+    }
+
+    @Override
+    public void saveDrafts(List<StudentAnswer> drafts) {
+        if (drafts == null || drafts.isEmpty()) return;
+
+        jdbc.batchUpdate(DELETE_DRAFT_SQL, drafts, drafts.size(), (ps, a) -> {
+            ps.setLong(1, a.getSubmissionId());
+            ps.setLong(2, a.getQuestionId());
+            ps.setLong(3, a.getSubmissionId());
+        });
+        jdbc.batchUpdate(INSERT_DRAFT_SQL, drafts, drafts.size(), (ps, a) -> {
+            ps.setString(1, a.getChosenAnswer());
+            ps.setLong(2, a.getQuestionId());
+            ps.setLong(3, a.getSubmissionId());
+        });
+    }
+
+    @Override
+    public void updateCorrect(List<StudentAnswer> answers) {
+        if (answers == null || answers.isEmpty()) return;
+
+        jdbc.batchUpdate(UPDATE_CORRECT_SQL, answers, answers.size(), (ps, a) -> {
+            ps.setBoolean(1, Boolean.TRUE.equals(a.getCorrect()));
+            ps.setLong(2, a.getId());
+        });
+    }
+}
@@ -2,10 +2,26 @@ package com.example.evaluationservice.repository;
 
 import com.example.evaluationservice.entity.StudentAnswer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface StudentAnswerRepository extends JpaRepository<StudentAnswer, Long> {
+public interface StudentAnswerRepository extends JpaRepository<StudentAnswer, Long>, StudentAnswerBatchRepository {
     List<StudentAnswer> findBySubmissionIdOrderByQuestionIdAsc(Long submissionId);
-    void deleteBySubmissionId(Long submissionId);
+
+    // ✅ single DELETE statement (derived deleteBy loads then removes each entity).
+    // No clearAutomatically: submit() still holds the locked submission, clearing would detach it
+    // and its save() would merge with an extra SELECT
+    @Modifying(flushAutomatically = true)
+    @Query("delete from StudentAnswer a where a.submissionId = :submissionId")
+    int deleteBySubmissionId(@Param("submissionId") Long submissionId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            delete from StudentAnswer a
+            where a.submissionId in (select s.id from StudentEvaluation s where s.evaluationId = :evaluationId)
+            """)
+    int deleteByEvaluationId(@Param("evaluationId") Long evaluationId);
 }
@@ -0,0 +1,9 @@
+package com.example.evaluationservice.repository;
+
+import java.util.Map;
+
+public interface StudentEvaluationBatchRepository {
+
+    /** Writes many submission scores in one JDBC batch. */
+    void updateScores(Map<Long, Integer> scoreBySubmissionId);
+}
@@ -0,0 +1,30 @@
+package com.example.evaluationservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class StudentEvaluationBatchRepositoryImpl implements StudentEvaluationBatchRepository {
+
+    private static final String UPDATE_SCORE_SQL = "UPDATE student_evaluations SET score = ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbc;
+
+    @Override
+    public void updateScores(Map<Long, Integer> scoreBySubmissionId) {
+        if (scoreBySubmissionId == null || scoreBySubmissionId.isEmpty()) return;
+
+        var rows = new ArrayList<>(scoreBySubmissionId.entrySet());
+        Timestamp now = Timestamp.from(Instant.now()); // bypasses @UpdateTimestamp: set it here
+        jdbc.batchUpdate(UPDATE_SCORE_SQL, rows, rows.size(), (ps, e) -> {
+            ps.setInt(1, e.getValue());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, e.getKey());
+        });
+    }
+}
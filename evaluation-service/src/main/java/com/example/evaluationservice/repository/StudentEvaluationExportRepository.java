@@ -0,0 +1,11 @@
+package com.example.evaluationservice.repository;
+
+import com.example.evaluationservice.dto.SubmissionRowResponse;
+
+import java.util.stream.Stream;
+
+public interface StudentEvaluationExportRepository {
+
+    /** Every submission row in id order, read as it is consumed. Must be consumed inside a transaction and closed by the caller. */
+    Stream<SubmissionRowResponse> streamAllRows();
+}
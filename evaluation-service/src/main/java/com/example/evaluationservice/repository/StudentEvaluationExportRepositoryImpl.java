@@ -0,0 +1,34 @@
+package com.example.evaluationservice.repository;
+
+import com.example.evaluationservice.dto.SubmissionRowResponse;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public class StudentEvaluationExportRepositoryImpl implements StudentEvaluationExportRepository {
+
+    private final EntityManager em;
+    private final int fetchSize;
+
+    // Connector/J streams a result set row by row only for fetch size Integer.MIN_VALUE (without useCursorFetch,
+    // which is left off: it turns every statement of the service into a server-side prepare)
+    public StudentEvaluationExportRepositoryImpl(
+            EntityManager em,
+            @Value("${evaluation.submissions.export.fetch-size:-2147483648}") int fetchSize
+    ) {
+        this.em = em;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<SubmissionRowResponse> streamAllRows() {
+        return em.createQuery(StudentEvaluationRepository.ROW_SELECT + "order by s.id", SubmissionRowResponse.class)
+                .setHint(HINT_FETCH_SIZE, fetchSize)
+                .setHint(HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
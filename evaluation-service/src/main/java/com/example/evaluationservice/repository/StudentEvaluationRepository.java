@@ -1,20 +1,139 @@
 package com.example.evaluationservice.repository;
 
+import com.example.evaluationservice.domain.PrerequisiteLevel;
 import com.example.evaluationservice.domain.SubmissionStatus;
+import com.example.evaluationservice.dto.SubmissionRowResponse;
 import com.example.evaluationservice.entity.StudentEvaluation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface StudentEvaluationRepository extends JpaRepository<StudentEvaluation, Long> {
+public interface StudentEvaluationRepository extends JpaRepository<StudentEvaluation, Long>, StudentEvaluationBatchRepository,
+        StudentEvaluationExportRepository {
+
+    String ROW_SELECT = """
+            select new com.example.evaluationservice.dto.SubmissionRowResponse(
+                s.id, s.studentFullName, s.studentLevel,
+                e.title, e.activityId, e.prerequisiteLevel,
+                s.score, s.startedAt, s.submittedAt, s.status, s.updatedAt)
+            from StudentEvaluation s
+            left join Evaluation e on e.id = s.evaluationId
+            """;
 
     List<StudentEvaluation> findByEvaluationIdOrderByStartedAtDesc(Long evaluationId);
 
+    @Query("select s.id from StudentEvaluation s where s.evaluationId = :evaluationId order by s.id")
+    List<Long> findIdsByEvaluationId(@Param("evaluationId") Long evaluationId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from StudentEvaluation s where s.evaluationId = :evaluationId")
+    int deleteByEvaluationId(@Param("evaluationId") Long evaluationId);
+
     Optional<StudentEvaluation> findTopByEvaluationIdAndStudentIdAndStatusOrderByStartedAtDesc(
             Long evaluationId, Long studentId, SubmissionStatus status
     );
 
     List<StudentEvaluation> findByStudentIdOrderByStartedAtDesc(Long studentId);
-}
 
+    Optional<StudentEvaluation> findByIdempotencyKey(String idempotencyKey);
+
+    // submit() holds the row lock until commit: autosave flushes of this attempt wait, then see SUBMITTED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from StudentEvaluation s where s.id = :id")
+    Optional<StudentEvaluation> findByIdForUpdate(@Param("id") Long id);
+
+    // ✅ one JOIN query instead of evaluationRepo.findById per row
+    @Query(ROW_SELECT + "order by s.id")
+    List<SubmissionRowResponse> findAllRows();
+
+    @Query(ROW_SELECT + "where s.studentId = :studentId order by s.startedAt desc")
+    List<SubmissionRowResponse> findRowsByStudentId(@Param("studentId") Long studentId);
+
+    // ✅ keyset page: seeks on the primary key, never OFFSET
+    @Query(ROW_SELECT + """
+            where s.id > :after
+              and (:evaluationId is null or s.evaluationId = :evaluationId)
+              and (:studentId is null or s.studentId = :studentId)
+            order by s.id
+            """)
+    List<SubmissionRowResponse> findRowsAfter(
+            @Param("after") Long after,
+            @Param("evaluationId") Long evaluationId,
+            @Param("studentId") Long studentId,
+            Pageable page
+    );
+
+    // rows touched at or after since, oldest change first (incremental readers keep the last updatedAt as watermark)
+    @Query(ROW_SELECT + "where s.updatedAt >= :since order by s.updatedAt, s.id")
+    List<SubmissionRowResponse> findRowsChangedSince(@Param("since") Instant since);
+
+    @Query(ROW_SELECT + "where s.id in :ids")
+    List<SubmissionRowResponse> findRowsByIds(@Param("ids") Collection<Long> ids);
+
+    long countByEvaluationIdAndStatus(Long evaluationId, SubmissionStatus status);
+
+    // keyset chunk of (id, score) for bulk re-scoring
+    @Query("""
+            select s.id as id, s.score as score from StudentEvaluation s
+            where s.evaluationId = :evaluationId and s.status = :status and s.id > :after
+            order by s.id
+            """)
+    List<SubmissionScore> findScoresAfter(
+            @Param("evaluationId") Long evaluationId,
+            @Param("status") SubmissionStatus status,
+            @Param("after") Long after,
+            Pageable page
+    );
+
+    interface SubmissionScore {
+        Long getId();
+        Integer getScore();
+    }
+
+    // ✅ submission + evaluation + answers + questions in one round trip, one row per answer
+    // (one row with null answer columns when nothing was answered)
+    @Query("""
+            select s.id as submissionId, s.evaluationId as evaluationId,
+                   e.title as evaluationTitle, e.activityId as activityId, e.prerequisiteLevel as prerequisiteLevel,
+                   s.studentId as studentId, s.studentFullName as studentFullName, s.studentLevel as studentLevel,
+                   s.score as score, s.startedAt as startedAt, s.submittedAt as submittedAt, s.status as status,
+                   a.questionId as questionId, q.label as questionLabel, q.correctAnswer as correctAnswer,
+                   a.chosenAnswer as chosenAnswer, a.correct as correct
+            from StudentEvaluation s
+            left join Evaluation e on e.id = s.evaluationId
+            left join StudentAnswer a on a.submissionId = s.id
+            left join Question q on q.id = a.questionId and q.evaluationId = s.evaluationId
+            where s.id in :ids
+            order by s.id, a.questionId
+            """)
+    List<SubmissionDetailRow> findDetailRows(@Param("ids") Collection<Long> ids);
+
+    interface SubmissionDetailRow {
+        Long getSubmissionId();
+        Long getEvaluationId();
+        String getEvaluationTitle();
+        Long getActivityId();
+        PrerequisiteLevel getPrerequisiteLevel();
+        Long getStudentId();
+        String getStudentFullName();
+        String getStudentLevel();
+        Integer getScore();
+        Instant getStartedAt();
+        Instant getSubmittedAt();
+        SubmissionStatus getStatus();
+        Long getQuestionId();
+        String getQuestionLabel();
+        String getCorrectAnswer();
+        String getChosenAnswer();
+        Boolean getCorrect();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.evaluationservice.repository;
+
+import com.example.evaluationservice.domain.SubmissionChangeType;
+import com.example.evaluationservice.dto.SubmissionChangeResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * submission_changes: append-only outbox, one row per change of a submission. seq is reserved from the
+ * submission_change_sequence row at commit time (see SubmissionChangeFeed), so it follows commit order without gaps.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubmissionChangeRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO submission_changes (seq, submission_id, evaluation_id, change_type, changed_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbc;
+
+    /**
+     * Reserves the next changes.size() seqs and writes the changes with them, in one batch.
+     * Must be the last statements of the transaction: the sequence row stays locked until it ends.
+     */
+    public void insertAtCommit(List<NewChange> changes) {
+        if (changes.isEmpty()) return;
+
+        jdbc.update("UPDATE submission_change_sequence SET last_seq = last_seq + ? WHERE id = 1", changes.size());
+        long first = jdbc.queryForObject("SELECT last_seq FROM submission_change_sequence WHERE id = 1", Long.class)
+                - changes.size() + 1;
+
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbc.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                NewChange c = changes.get(i);
+                ps.setLong(1, first + i);
+                ps.setLong(2, c.submissionId());
+                ps.setLong(3, c.evaluationId());
+                ps.setString(4, c.type().name());
+                ps.setTimestamp(5, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return changes.size();
+            }
+        });
+    }
+
+    /** Changes after since in seq order; submission is left null (filled by the caller). */
+    public List<SubmissionChangeResponse> findAfter(long since, int limit) {
+        return jdbc.query("SELECT seq, submission_id, evaluation_id, change_type, changed_at FROM submission_changes "
+                        + "WHERE seq > ? ORDER BY seq LIMIT ?",
+                (rs, i) -> SubmissionChangeResponse.builder()
+                        .sequence(rs.getLong("seq"))
+                        .submissionId(rs.getLong("submission_id"))
+                        .evaluationId(rs.getLong("evaluation_id"))
+                        .type(SubmissionChangeType.valueOf(rs.getString("change_type")))
+                        .changedAt(rs.getTimestamp("changed_at").toInstant())
+                        .build(),
+                since, limit);
+    }
+
+    /** Highest seq written, 0 when there is none. */
+    public long head() {
+        return jdbc.queryForObject("SELECT COALESCE(MAX(seq), 0) FROM submission_changes", Long.class);
+    }
+
+    /** Lowest seq still kept, null when there is none. */
+    public Long oldest() {
+        return jdbc.queryForObject("SELECT MIN(seq) FROM submission_changes", Long.class);
+    }
+
+    /** Deletes up to limit rows older than cutoff and below belowSeq (the head row is always kept). */
+    public int deleteOlderThan(Instant cutoff, long belowSeq, int limit) {
+        return jdbc.update("DELETE FROM submission_changes WHERE changed_at < ? AND seq < ? LIMIT ?",
+                Timestamp.from(cutoff), belowSeq, limit);
+    }
+
+    public record NewChange(long submissionId, long evaluationId, SubmissionChangeType type) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.evaluationservice.repository;
+
+import com.example.evaluationservice.domain.SubmissionJobStatus;
+import com.example.evaluationservice.entity.SubmissionJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SubmissionJobRepository extends JpaRepository<SubmissionJob, Long> {
+
+    Optional<SubmissionJob> findBySubmissionId(Long submissionId);
+
+    long countByStatusIn(Collection<SubmissionJobStatus> statuses);
+
+    @Query("""
+            select j.id from SubmissionJob j
+            where j.status = com.example.evaluationservice.domain.SubmissionJobStatus.PENDING
+              and j.nextAttemptAt <= :now
+            order by j.id
+            """)
+    List<Long> findDueIds(@Param("now") Instant now, Pageable page);
+
+    // conditional UPDATE: when several instances poll, each job is claimed by exactly one
+    @Modifying
+    @Query("""
+            update SubmissionJob j
+            set j.status = com.example.evaluationservice.domain.SubmissionJobStatus.PROCESSING,
+                j.claimedBy = :token, j.claimedAt = :now
+            where j.id in :ids
+              and j.status = com.example.evaluationservice.domain.SubmissionJobStatus.PENDING
+            """)
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            delete from SubmissionJob j
+            where j.submissionId in (select s.id from StudentEvaluation s where s.evaluationId = :evaluationId)
+            """)
+    int deleteByEvaluationId(@Param("evaluationId") Long evaluationId);
+
+    List<SubmissionJob> findByClaimedByAndStatus(String claimedBy, SubmissionJobStatus status);
+
+    // jobs left PROCESSING by a crashed worker go back to the queue
+    @Modifying
+    @Query("""
+            update SubmissionJob j
+            set j.status = com.example.evaluationservice.domain.SubmissionJobStatus.PENDING, j.claimedBy = null
+            where j.status = com.example.evaluationservice.domain.SubmissionJobStatus.PROCESSING
+              and j.claimedAt < :before
+            """)
+    int releaseStale(@Param("before") Instant before);
+
+    @Modifying
+    @Query("""
+            update SubmissionJob j
+            set j.status = :status, j.attempts = :attempts, j.nextAttemptAt = :nextAttemptAt,
+                j.lastError = :error, j.claimedBy = null
+            where j.id = :id
+            """)
+    int finish(
+            @Param("id") Long id,
+            @Param("status") SubmissionJobStatus status,
+            @Param("attempts") int attempts,
+            @Param("nextAttemptAt") Instant nextAttemptAt,
+            @Param("error") String error
+    );
+}
@@ -0,0 +1,92 @@
+package com.example.evaluationservice.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compiled answer key of one evaluation: questions in position order, the correct option
+ * index of each question packed in a byte array, per-question weights and the optional
+ * partial credit of the other options (percent of the weight, one byte per option).
+ * Responses are scored as option indexes, so scoring never compares answer strings.
+ */
+public final class AnswerKey {
+
+    /** Response value for a question the student did not answer. */
+    public static final byte NO_ANSWER = -1;
+    /** Response value for an answer that matches none of the options. */
+    public static final byte UNKNOWN_OPTION = -2;
+    /** Most options a question may have: their indexes (0..MAX_OPTIONS-1) fit in a byte. */
+    public static final int MAX_OPTIONS = Byte.MAX_VALUE;
+
+    private final long[] questionIds;
+    private final byte[] correct;
+    private final String[][] options;
+    private final double[] weights;
+    private final byte[][] credits; // [question][option] percent, null row = all-or-nothing
+    private final double totalWeight;
+    private final Map<Long, Integer> indexById;
+
+    AnswerKey(long[] questionIds, byte[] correct, String[][] options, double[] weights, byte[][] credits) {
+        this.questionIds = questionIds;
+        this.correct = correct;
+        this.options = options;
+        this.weights = weights;
+        this.credits = credits;
+
+        double total = 0;
+        for (double w : weights) total += w;
+        this.totalWeight = total;
+
+        this.indexById = new HashMap<>(questionIds.length * 2);
+        for (int i = 0; i < questionIds.length; i++) indexById.put(questionIds[i], i);
+    }
+
+    public int size() {
+        return questionIds.length;
+    }
+
+    public long questionId(int index) {
+        return questionIds[index];
+    }
+
+    /** Position of the question in this key, or -1 if it does not belong to the evaluation. */
+    public int indexOf(Long questionId) {
+        Integer i = indexById.get(questionId);
+        return i == null ? -1 : i;
+    }
+
+    /** Option index of an answer text for a question, UNKNOWN_OPTION if none matches. */
+    public byte optionIndex(int question, String chosen) {
+        String[] opts = options[question];
+        for (int o = 0; o < opts.length; o++) {
+            if (opts[o].equals(chosen)) return (byte) o;
+        }
+        return UNKNOWN_OPTION;
+    }
+
+    /** A response array with every question unanswered. */
+    public byte[] newResponse() {
+        byte[] r = new byte[questionIds.length];
+        Arrays.fill(r, NO_ANSWER);
+        return r;
+    }
+
+    byte correctOption(int question) {
+        return correct[question];
+    }
+
+    double weight(int question) {
+        return weights[question];
+    }
+
+    double totalWeight() {
+        return totalWeight;
+    }
+
+    /** Share of the weight earned by choosing a wrong option, 0 without partial credit. */
+    double credit(int question, byte option) {
+        byte[] row = credits[question];
+        return row == null || option < 0 || option >= row.length ? 0 : row[option] / 100.0;
+    }
+}
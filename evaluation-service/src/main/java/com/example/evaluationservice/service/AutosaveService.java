@@ -0,0 +1,224 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.common.BadRequestException;
+import com.example.evaluationservice.common.NotFoundException;
+import com.example.evaluationservice.common.ServiceBusyException;
+import com.example.evaluationservice.domain.SubmissionStatus;
+import com.example.evaluationservice.dto.SubmitAnswersRequest;
+import com.example.evaluationservice.entity.StudentAnswer;
+import com.example.evaluationservice.entity.StudentEvaluation;
+import com.example.evaluationservice.repository.StudentAnswerRepository;
+import com.example.evaluationservice.repository.StudentEvaluationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Autosave of in-progress answers. Saves only update an in-memory draft per submission
+ * (last value per question wins); a scheduled flush writes every draft that changed since the
+ * previous flush in one batch, and submit() takes whatever is still pending (the draft is only
+ * dropped once that submit has committed).
+ * So a client autosaving every few seconds costs one DB write per flush interval, not per save.
+ */
+@Service
+public class AutosaveService {
+
+    private static final Logger log = LoggerFactory.getLogger(AutosaveService.class);
+
+    private final StudentEvaluationRepository submissionRepo;
+    private final StudentAnswerRepository answerRepo;
+    private final TransactionTemplate tx;
+
+    private final int maxDrafts;
+    private final int maxAnswersPerDraft;
+
+    private final ConcurrentHashMap<Long, Draft> drafts = new ConcurrentHashMap<>();
+
+    private final Counter saves;
+    private final Counter rowsFlushed;
+
+    public AutosaveService(
+            StudentEvaluationRepository submissionRepo,
+            StudentAnswerRepository answerRepo,
+            PlatformTransactionManager txManager,
+            MeterRegistry meterRegistry,
+            @Value("${evaluation.autosave.max-drafts:20000}") int maxDrafts,
+            @Value("${evaluation.autosave.max-answers-per-draft:500}") int maxAnswersPerDraft
+    ) {
+        this.submissionRepo = submissionRepo;
+        this.answerRepo = answerRepo;
+        this.tx = new TransactionTemplate(txManager);
+        this.maxDrafts = maxDrafts;
+        this.maxAnswersPerDraft = maxAnswersPerDraft;
+
+        this.saves = meterRegistry.counter("evaluation.autosave.saves");
+        this.rowsFlushed = meterRegistry.counter("evaluation.autosave.rows.flushed");
+        meterRegistry.gaugeMapSize("evaluation.autosave.drafts", List.of(), drafts);
+    }
+
+    public void save(Long submissionId, SubmitAnswersRequest req) {
+        while (true) {
+            Draft draft = drafts.get(submissionId);
+            if (draft == null) {
+                if (drafts.size() >= maxDrafts) throw new ServiceBusyException("Too many unsaved drafts, retry shortly.");
+                draft = new Draft(requireInProgress(submissionId, req.getStudentId()).getStudentId());
+                Draft raced = drafts.putIfAbsent(submissionId, draft);
+                if (raced != null) draft = raced;
+            }
+
+            synchronized (draft) {
+                if (draft.closed) continue; // flushed and evicted meanwhile: start a fresh draft
+                if (!Objects.equals(draft.studentId, req.getStudentId())) {
+                    throw new BadRequestException("studentId does not match this submission.");
+                }
+                for (SubmitAnswersRequest.AnswerItem item : req.getAnswers()) {
+                    if (item.getQuestionId() == null) continue;
+                    if (!draft.pending.containsKey(item.getQuestionId()) && draft.size() >= maxAnswersPerDraft) {
+                        throw new BadRequestException("Too many answers for this submission.");
+                    }
+                    draft.pending.put(item.getQuestionId(), item.getChosenAnswer() == null ? "" : item.getChosenAnswer().trim());
+                }
+            }
+            saves.increment();
+            return;
+        }
+    }
+
+    /** Saved answers of an attempt (flushed rows overlaid with what is still in memory). */
+    public List<SubmitAnswersRequest.AnswerItem> getDraft(Long submissionId) {
+        if (!submissionRepo.existsById(submissionId)) throw new NotFoundException("Submission not found: " + submissionId);
+
+        Map<Long, String> answers = new TreeMap<>();
+        for (StudentAnswer a : answerRepo.findBySubmissionIdOrderByQuestionIdAsc(submissionId)) {
+            answers.put(a.getQuestionId(), a.getChosenAnswer());
+        }
+        answers.putAll(unflushed(submissionId, false));
+
+        return answers.entrySet().stream()
+                .map(e -> new SubmitAnswersRequest.AnswerItem(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    /**
+     * Called by submit(): the answers not yet written. The draft is removed after the submit commits;
+     * if it rolls back the draft stays, so the answers are still flushed or taken by the next submit.
+     */
+    Map<Long, String> take(Long submissionId) {
+        Map<Long, String> answers = unflushed(submissionId, false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    unflushed(submissionId, true);
+                }
+            });
+        } else {
+            unflushed(submissionId, true);
+        }
+        return answers;
+    }
+
+    @Scheduled(fixedDelayString = "${evaluation.autosave.flush-interval-ms:2000}")
+    public void flush() {
+        List<StudentAnswer> rows = new ArrayList<>();
+        List<Draft> flushing = new ArrayList<>();
+
+        for (Map.Entry<Long, Draft> e : drafts.entrySet()) {
+            Draft draft = e.getValue();
+            synchronized (draft) {
+                if (draft.pending.isEmpty()) {
+                    // nothing saved since the last flush: forget it, the next save re-validates
+                    if (draft.inFlight.isEmpty()) {
+                        draft.closed = true;
+                        drafts.remove(e.getKey(), draft);
+                    }
+                    continue;
+                }
+                draft.inFlight.putAll(draft.pending);
+                draft.pending.clear();
+                for (Map.Entry<Long, String> a : draft.inFlight.entrySet()) {
+                    rows.add(StudentAnswer.builder()
+                            .submissionId(e.getKey())
+                            .questionId(a.getKey())
+                            .chosenAnswer(a.getValue())
+                            .correct(false)
+                            .build());
+                }
+                flushing.add(draft);
+            }
+        }
+        if (rows.isEmpty()) return;
+
+        boolean written = false;
+        try {
+            tx.executeWithoutResult(s -> answerRepo.saveDrafts(rows));
+            written = true;
+            rowsFlushed.increment(rows.size());
+        } catch (Exception ex) {
+            log.warn("Autosave flush of {} answers failed, will retry", rows.size(), ex);
+        } finally {
+            for (Draft draft : flushing) {
+                synchronized (draft) {
+                    // newer saves win over what was in flight
+                    if (!written) draft.inFlight.forEach(draft.pending::putIfAbsent);
+                    draft.inFlight.clear();
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<Long, String> unflushed(Long submissionId, boolean remove) {
+        Draft draft = remove ? drafts.remove(submissionId) : drafts.get(submissionId);
+        if (draft == null) return Map.of();
+        synchronized (draft) {
+            if (remove) draft.closed = true;
+            Map<Long, String> out = new HashMap<>(draft.inFlight);
+            out.putAll(draft.pending);
+            return out;
+        }
+    }
+
+    private StudentEvaluation requireInProgress(Long submissionId, Long studentId) {
+        StudentEvaluation sub = submissionRepo.findById(submissionId)
+                .orElseThrow(() -> new NotFoundException("Submission not found: " + submissionId));
+        if (!Objects.equals(sub.getStudentId(), studentId)) {
+            throw new BadRequestException("studentId does not match this submission.");
+        }
+        if (sub.getStatus() != SubmissionStatus.IN_PROGRESS) {
+            throw new BadRequestException("Submission already submitted.");
+        }
+        return sub;
+    }
+
+    private static final class Draft {
+        final Long studentId;
+        final Map<Long, String> pending = new HashMap<>();   // saved since the last flush
+        final Map<Long, String> inFlight = new HashMap<>();  // being written by flush()
+        boolean closed;
+
+        Draft(Long studentId) {
+            this.studentId = studentId;
+        }
+
+        int size() {
+            return pending.size() + inFlight.size();
+        }
+    }
+}
@@ -1,19 +1,34 @@
 package com.example.evaluationservice.service;
 
+import com.example.evaluationservice.cache.PublishedEvaluationCache;
+import com.example.evaluationservice.cache.PublishedEvaluationSnapshot;
 import com.example.evaluationservice.common.BadRequestException;
 import com.example.evaluationservice.common.NotFoundException;
+import com.example.evaluationservice.config.ReadReplicaRoutingDataSource;
 import com.example.evaluationservice.domain.*;
 import com.example.evaluationservice.dto.*;
 import com.example.evaluationservice.entity.*;
 import com.example.evaluationservice.repository.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import java.util.Objects;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -23,7 +38,17 @@ public class EvaluationService {
     private final QuestionRepository questionRepo;
     private final StudentEvaluationRepository submissionRepo;
     private final StudentAnswerRepository answerRepo;
+    private final SubmissionJobRepository submissionJobRepo;
+    private final EvaluationStatsRepository statsRepo;
+    private final AutosaveService autosave;
     private final ScoringService scoring;
+    private final PublishedEvaluationCache publishedCache;
+    private final ObjectMapper objectMapper;
+    private final SubmissionChangeFeed changes;
+    private final TransactionTemplate tx;
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_DETAILS_BATCH = 200;
 
     // -------------------- EVALUATIONS (PROF) --------------------
 
@@ -44,10 +69,7 @@ public class EvaluationService {
     // ✅ FIX 500: no createdAt sort (avoid null / missing column)
     @Transactional(readOnly = true)
     public List<EvaluationResponse> listEvaluations() {
-        return evaluationRepo.findAllByOrderByIdDesc()
-                .stream()
-                .map(this::toEvalResponse)
-                .toList();
+        return toEvalResponses(evaluationRepo.findAllByOrderByIdDesc());
     }
 
     @Transactional(readOnly = true)
@@ -68,6 +90,7 @@ public class EvaluationService {
         e.setIntroduction(req.getIntroduction());
 
         e = evaluationRepo.save(e);
+        publishedCache.invalidate(id);
         return toEvalResponse(e);
     }
 
@@ -75,15 +98,16 @@ public class EvaluationService {
     public void deleteEvaluation(Long id) {
         if (!evaluationRepo.existsById(id)) throw new NotFoundException("Evaluation not found: " + id);
 
+        // ✅ set-based: a fixed number of DELETE statements whatever the number of submissions
+        answerRepo.deleteByEvaluationId(id);
+        submissionJobRepo.deleteByEvaluationId(id);
+        changes.recordEvaluationDeleted(id);
+        submissionRepo.deleteByEvaluationId(id);
         questionRepo.deleteByEvaluationId(id);
-
-        List<StudentEvaluation> subs = submissionRepo.findByEvaluationIdOrderByStartedAtDesc(id);
-        for (StudentEvaluation s : subs) {
-            answerRepo.deleteBySubmissionId(s.getId());
-        }
-        submissionRepo.deleteAll(subs);
+        statsRepo.deleteByEvaluationId(id);
 
         evaluationRepo.deleteById(id);
+        publishedCache.invalidate(id);
     }
 
     @Transactional
@@ -96,6 +120,7 @@ public class EvaluationService {
 
         e.setStatus(published ? EvaluationStatus.PUBLISHED : EvaluationStatus.DRAFT);
         e = evaluationRepo.save(e);
+        publishedCache.invalidate(id);
         return toEvalResponse(e);
     }
 
@@ -119,9 +144,13 @@ public class EvaluationService {
 
 
         if (options.size() < 2) throw new BadRequestException("Question must have at least 2 options.");
+        if (options.size() > AnswerKey.MAX_OPTIONS) {
+            throw new BadRequestException("Question must have at most " + AnswerKey.MAX_OPTIONS + " options.");
+        }
 
         String correct = req.getCorrectAnswer().trim();
         if (!options.contains(correct)) throw new BadRequestException("correctAnswer must match one of options.");
+        byte[] credits = optionCredits(req.getOptionCredits(), options, correct);
 
         int position = questionRepo.findByEvaluationIdOrderByPositionAsc(evaluationId).size() + 1;
 
@@ -131,9 +160,12 @@ public class EvaluationService {
                 .options(options)
                 .correctAnswer(correct)
                 .position(position)
+                .weight(req.getWeight())
+                .optionCredits(credits)
                 .build();
 
         q = questionRepo.save(q);
+        publishedCache.invalidate(evaluationId);
 
         return QuestionProfessorResponse.builder()
                 .id(q.getId())
@@ -141,6 +173,8 @@ public class EvaluationService {
                 .options(q.getOptions())
                 .correctAnswer(q.getCorrectAnswer())
                 .position(q.getPosition())
+                .weight(q.getWeight())
+                .optionCredits(creditList(q.getOptionCredits()))
                 .build();
     }
 
@@ -155,89 +189,154 @@ public class EvaluationService {
                         .options(q.getOptions())
                         .correctAnswer(q.getCorrectAnswer())
                         .position(q.getPosition())
+                        .weight(q.getWeight())
+                        .optionCredits(creditList(q.getOptionCredits()))
                         .build())
                 .toList();
     }
 
-    @Transactional(readOnly = true)
-    public List<QuestionStudentResponse> listQuestionsStudent(Long evaluationId) {
-        Evaluation e = requireEvaluation(evaluationId);
-        if (e.getStatus() != EvaluationStatus.PUBLISHED) throw new BadRequestException("Evaluation is not published.");
+    // percent per option, stored as one byte each; null when no wrong option earns anything
+    private static byte[] optionCredits(List<Integer> credits, List<String> options, String correct) {
+        if (credits == null || credits.isEmpty()) return null;
+        if (credits.size() != options.size()) throw new BadRequestException("optionCredits must have one value per option.");
+
+        byte[] out = new byte[credits.size()];
+        boolean partial = false;
+        for (int i = 0; i < out.length; i++) {
+            Integer c = credits.get(i);
+            if (c == null || c < 0 || c > 100) throw new BadRequestException("optionCredits must be between 0 and 100.");
+            if (options.get(i).equals(correct)) {
+                if (c != 100) throw new BadRequestException("optionCredits of the correctAnswer must be 100.");
+            } else if (c > 0) {
+                partial = true;
+            }
+            out[i] = c.byteValue();
+        }
+        return partial ? out : null;
+    }
 
-        return questionRepo.findByEvaluationIdOrderByPositionAsc(evaluationId).stream()
-                .map(q -> QuestionStudentResponse.builder()
-                        .id(q.getId())
-                        .label(q.getLabel())
-                        .options(q.getOptions())
-                        .position(q.getPosition())
-                        .build())
-                .toList();
+    private static List<Integer> creditList(byte[] credits) {
+        if (credits == null) return null;
+        List<Integer> out = new ArrayList<>(credits.length);
+        for (byte c : credits) out.add((int) c);
+        return out;
+    }
+
+    // ✅ served from the published snapshot, already rendered as JSON
+    @Transactional(readOnly = true)
+    public byte[] listQuestionsStudentJson(Long evaluationId) {
+        return requirePublishedSnapshot(evaluationId).getQuestionsJson();
     }
 
     // -------------------- STUDENT FLOW --------------------
 
     @Transactional(readOnly = true)
     public List<EvaluationResponse> listPublished() {
-        return evaluationRepo.findByStatusOrderByIdDesc(EvaluationStatus.PUBLISHED)
-                .stream()
-                .map(this::toEvalResponse)
-                .toList();
+        return toEvalResponses(evaluationRepo.findByStatusOrderByIdDesc(EvaluationStatus.PUBLISHED));
     }
 
 
-    @Transactional
+    // start()/startJson() are deliberately not @Transactional: the insert (and its change feed row) runs
+    // in its own transaction so a unique-key conflict from a concurrent start can be caught and resolved.
     public StartEvaluationResponse start(Long evaluationId, StartEvaluationRequest req) {
-        Evaluation e = requireEvaluation(evaluationId);
-        if (e.getStatus() != EvaluationStatus.PUBLISHED) throw new BadRequestException("Evaluation is not published.");
-
-        List<Question> questions = questionRepo.findByEvaluationIdOrderByPositionAsc(evaluationId);
-        if (questions.isEmpty()) throw new BadRequestException("Evaluation has 0 questions.");
-
-        Optional<StudentEvaluation> existing = submissionRepo
-                .findTopByEvaluationIdAndStudentIdAndStatusOrderByStartedAtDesc(
-                        evaluationId, req.getStudentId(), SubmissionStatus.IN_PROGRESS
-                );
-
-        StudentEvaluation sub;
-        if (existing.isPresent()) {
-            sub = existing.get();
-        } else {
-            sub = StudentEvaluation.builder()
-                    .evaluationId(e.getId())
-                    .activityId(e.getActivityId())
-                    .prerequisiteLevel(e.getPrerequisiteLevel())
-                    .studentId(req.getStudentId())
-                    .studentFullName(req.getStudentFullName().trim())
-                    .studentLevel(req.getStudentLevel().trim())
-                    .status(SubmissionStatus.IN_PROGRESS)
-                    .startedAt(Instant.now())
-                    .build();
-            sub = submissionRepo.save(sub);
-        }
+        return start(evaluationId, req, null);
+    }
 
-        List<QuestionStudentResponse> qDto = questions.stream()
-                .map(q -> QuestionStudentResponse.builder()
-                        .id(q.getId())
-                        .label(q.getLabel())
-                        .options(q.getOptions())
-                        .position(q.getPosition())
-                        .build())
-                .toList();
+    public StartEvaluationResponse start(Long evaluationId, StartEvaluationRequest req, String idempotencyKey) {
+        PublishedEvaluationSnapshot e = requirePublishedSnapshot(evaluationId);
+        StudentEvaluation sub = openSubmission(e, req, idempotencyKey);
 
         return StartEvaluationResponse.builder()
                 .submissionId(sub.getId())
-                .evaluationId(e.getId())
+                .evaluationId(e.getEvaluationId())
                 .title(e.getTitle())
                 .introduction(e.getIntroduction())
                 .startedAt(sub.getStartedAt())
-                .questions(qDto)
+                .questions(e.getQuestions())
                 .build();
     }
 
+    // ✅ same payload as start(), spliced from pre-rendered bytes (no per-student question encoding)
+    public byte[] startJson(Long evaluationId, StartEvaluationRequest req, String idempotencyKey) {
+        PublishedEvaluationSnapshot e = requirePublishedSnapshot(evaluationId);
+        StudentEvaluation sub = openSubmission(e, req, idempotencyKey);
+
+        try {
+            return e.renderStartResponse(sub.getId(), objectMapper.writeValueAsBytes(sub.getStartedAt()));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize startedAt", ex);
+        }
+    }
+
+    private StudentEvaluation openSubmission(PublishedEvaluationSnapshot e, StartEvaluationRequest req, String idempotencyKey) {
+        if (e.getQuestions().isEmpty()) throw new BadRequestException("Evaluation has 0 questions.");
+
+        String key = normalizeIdempotencyKey(idempotencyKey);
+
+        // 1) retried request: answer from the row it created
+        Optional<StudentEvaluation> replay = findReplay(key, e.getEvaluationId(), req.getStudentId());
+        if (replay.isPresent()) return replay.get();
+
+        // 2) already an open attempt for this student
+        Optional<StudentEvaluation> existing = findInProgress(e.getEvaluationId(), req.getStudentId());
+        if (existing.isPresent()) return existing.get();
+
+        StudentEvaluation sub = StudentEvaluation.builder()
+                .evaluationId(e.getEvaluationId())
+                .activityId(e.getActivityId())
+                .prerequisiteLevel(e.getPrerequisiteLevel())
+                .studentId(req.getStudentId())
+                .studentFullName(req.getStudentFullName().trim())
+                .studentLevel(req.getStudentLevel().trim())
+                .status(SubmissionStatus.IN_PROGRESS)
+                .startedAt(Instant.now())
+                .inProgressKey(StudentEvaluation.inProgressKey(e.getEvaluationId(), req.getStudentId()))
+                .idempotencyKey(key)
+                .build();
+
+        try {
+            return tx.execute(status -> {
+                StudentEvaluation saved = submissionRepo.saveAndFlush(sub);
+                changes.record(saved.getId(), saved.getEvaluationId(), SubmissionChangeType.STARTED);
+                return saved;
+            });
+        } catch (DataIntegrityViolationException race) {
+            // 3) lost the race against a concurrent start: return the winner's row
+            return findReplay(key, e.getEvaluationId(), req.getStudentId())
+                    .or(() -> findInProgress(e.getEvaluationId(), req.getStudentId()))
+                    .orElseThrow(() -> race);
+        }
+    }
+
+    private Optional<StudentEvaluation> findReplay(String idempotencyKey, Long evaluationId, Long studentId) {
+        if (idempotencyKey == null) return Optional.empty();
+
+        Optional<StudentEvaluation> replay = submissionRepo.findByIdempotencyKey(idempotencyKey);
+        if (replay.isPresent()
+                && !(Objects.equals(replay.get().getEvaluationId(), evaluationId)
+                && Objects.equals(replay.get().getStudentId(), studentId))) {
+            throw new BadRequestException("Idempotency-Key already used for another start request.");
+        }
+        return replay;
+    }
+
+    private Optional<StudentEvaluation> findInProgress(Long evaluationId, Long studentId) {
+        return submissionRepo.findTopByEvaluationIdAndStudentIdAndStatusOrderByStartedAtDesc(
+                evaluationId, studentId, SubmissionStatus.IN_PROGRESS
+        );
+    }
+
+    private String normalizeIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) return null;
+        String key = idempotencyKey.trim();
+        if (key.length() > 128) throw new BadRequestException("Idempotency-Key must be at most 128 characters.");
+        return key;
+    }
+
 
     @Transactional
     public SubmitAnswersResponse submit(Long submissionId, SubmitAnswersRequest req) {
-        StudentEvaluation sub = submissionRepo.findById(submissionId)
+        StudentEvaluation sub = submissionRepo.findByIdForUpdate(submissionId)
                 .orElseThrow(() -> new NotFoundException("Submission not found: " + submissionId));
 
         if (!Objects.equals(sub.getStudentId(), req.getStudentId())) {
@@ -251,51 +350,67 @@ public class EvaluationService {
         List<Question> questions = questionRepo.findByEvaluationIdOrderByPositionAsc(sub.getEvaluationId());
         if (questions.isEmpty()) throw new BadRequestException("Evaluation has no questions.");
 
-        Map<Long, Question> qMap = questions.stream().collect(Collectors.toMap(Question::getId, q -> q));
+        AnswerKey key = scoring.compile(questions);
 
-        answerRepo.deleteBySubmissionId(submissionId);
-
-        int correctCount = 0;
-        int total = questions.size();
-
-        Set<Long> answered = new HashSet<>();
+        // one slot per key question: chosen option index for scoring, chosen text for storage
+        byte[] response = key.newResponse();
+        String[] chosenText = new String[key.size()];
 
         for (SubmitAnswersRequest.AnswerItem item : req.getAnswers()) {
-            Question q = qMap.get(item.getQuestionId());
-            if (q == null) continue;
+            int i = key.indexOf(item.getQuestionId());
+            if (i < 0) continue;
 
             String chosen = item.getChosenAnswer() == null ? "" : item.getChosenAnswer().trim();
-            boolean ok = chosen.equals(q.getCorrectAnswer());
-            if (ok) correctCount++;
+            response[i] = key.optionIndex(i, chosen);
+            chosenText[i] = chosen;
+        }
 
-            answered.add(q.getId());
+        // ✅ final autosave flush: questions missing from the request fall back to the saved draft
+        if (fillFromDrafts(submissionId, key, response, chosenText)) {
+            for (StudentAnswer a : answerRepo.findBySubmissionIdOrderByQuestionIdAsc(submissionId)) {
+                int i = key.indexOf(a.getQuestionId());
+                if (i >= 0 && chosenText[i] == null) {
+                    response[i] = key.optionIndex(i, a.getChosenAnswer());
+                    chosenText[i] = a.getChosenAnswer();
+                }
+            }
+        }
 
-            answerRepo.save(StudentAnswer.builder()
+        answerRepo.deleteBySubmissionId(submissionId);
+
+        ScoreResult result = scoring.score(key, response);
+
+        List<StudentAnswer> rows = new ArrayList<>(key.size());
+        long[] questionIds = new long[key.size()];
+        boolean[] answered = new boolean[key.size()];
+        boolean[] correct = new boolean[key.size()];
+        for (int i = 0; i < key.size(); i++) {
+            questionIds[i] = key.questionId(i);
+            answered[i] = chosenText[i] != null && !chosenText[i].isEmpty();
+            correct[i] = result.getCorrect().get(i);
+            rows.add(StudentAnswer.builder()
                     .submissionId(submissionId)
-                    .questionId(q.getId())
-                    .chosenAnswer(chosen)
-                    .correct(ok)
+                    .questionId(questionIds[i])
+                    .chosenAnswer(answered[i] ? chosenText[i] : "")
+                    .correct(correct[i])
                     .build());
         }
 
-        for (Question q : questions) {
-            if (!answered.contains(q.getId())) {
-                answerRepo.save(StudentAnswer.builder()
-                        .submissionId(submissionId)
-                        .questionId(q.getId())
-                        .chosenAnswer("")
-                        .correct(false)
-                        .build());
-            }
-        }
+        // ✅ one JDBC batch instead of one INSERT per answer
+        answerRepo.insertAll(rows);
 
-        int scorePercent = scoring.percent(correctCount, total);
+        int scorePercent = result.getPercent();
 
         sub.setScore(scorePercent);
         sub.setStatus(SubmissionStatus.SUBMITTED);
+        sub.setInProgressKey(null); // frees the slot for a new attempt
         sub.setSubmittedAt(Instant.now());
         submissionRepo.save(sub);
 
+        // ✅ same transaction: stats move together with the submission
+        statsRepo.recordSubmission(sub.getEvaluationId(), scorePercent, questionIds, answered, correct);
+        changes.record(sub.getId(), sub.getEvaluationId(), SubmissionChangeType.SUBMITTED);
+
         return SubmitAnswersResponse.builder()
                 .submissionId(sub.getId())
                 .score(scorePercent)
@@ -304,6 +419,23 @@ public class EvaluationService {
                 .build();
     }
 
+    /** Fills unanswered slots from the in-memory draft; true when some are still unanswered. */
+    private boolean fillFromDrafts(Long submissionId, AnswerKey key, byte[] response, String[] chosenText) {
+        Map<Long, String> drafts = autosave.take(submissionId);
+        boolean missing = false;
+        for (int i = 0; i < key.size(); i++) {
+            if (chosenText[i] != null) continue;
+            String chosen = drafts.get(key.questionId(i));
+            if (chosen == null) {
+                missing = true;
+                continue;
+            }
+            response[i] = key.optionIndex(i, chosen);
+            chosenText[i] = chosen;
+        }
+        return missing;
+    }
+
     @Transactional(readOnly = true)
     public List<SubmissionRowResponse> listSubmissionsForEvaluation(Long evaluationId) {
         Evaluation e = requireEvaluation(evaluationId);
@@ -322,93 +454,125 @@ public class EvaluationService {
                         .status(s.getStatus())
                         .build())
                 .toList();
-    }@Transactional(readOnly = true)
-public List<SubmissionRowResponse> listAllSubmissions() {
-    return submissionRepo.findAll().stream()
-            .map(this::toRow)
-            .toList();
-}
+    }
 
-@Transactional(readOnly = true)
-public List<SubmissionRowResponse> listSubmissionsForStudent(Long studentId) {
-    return submissionRepo.findByStudentIdOrderByStartedAtDesc(studentId).stream()
-            .map(this::toRow)
-            .toList();
-}
+    @Transactional(readOnly = true)
+    public List<SubmissionRowResponse> listAllSubmissions() {
+        return submissionRepo.findAllRows();
+    }
 
-private SubmissionRowResponse toRow(StudentEvaluation s) {
-    String evaluationTitle = null;
-    Long activityId = null;
-    PrerequisiteLevel prerequisiteLevel = null;
-
-    if (s.getEvaluationId() != null) {
-        Optional<Evaluation> opt = evaluationRepo.findById(s.getEvaluationId());
-        if (opt.isPresent()) {
-            Evaluation e = opt.get();
-            evaluationTitle = e.getTitle();
-            activityId = e.getActivityId();
-            prerequisiteLevel = e.getPrerequisiteLevel();
-        }
+    @Transactional(readOnly = true)
+    public List<SubmissionRowResponse> listSubmissionsChangedSince(Instant since) {
+        return submissionRepo.findRowsChangedSince(since);
     }
 
-    return SubmissionRowResponse.builder()
-            .submissionId(s.getId())
-            .studentFullName(s.getStudentFullName())
-            .studentLevel(s.getStudentLevel())
-            .evaluationTitle(evaluationTitle)
-            .activityId(activityId)
-            .prerequisiteLevel(prerequisiteLevel)
-            .score(s.getScore())
-            .startedAt(s.getStartedAt())
-            .submittedAt(s.getSubmittedAt())
-            .status(s.getStatus())
-            .build();
-}
+    @Transactional(readOnly = true)
+    public List<SubmissionRowResponse> listSubmissionsForStudent(Long studentId) {
+        return submissionRepo.findRowsByStudentId(studentId);
+    }
 
     @Transactional(readOnly = true)
-    public SubmissionDetailResponse getSubmissionDetail(Long submissionId) {
-        StudentEvaluation sub = submissionRepo.findById(submissionId)
-                .orElseThrow(() -> new NotFoundException("Submission not found: " + submissionId));
+    public SubmissionPageResponse listSubmissionsPage(Long after, int limit, Long evaluationId, Long studentId) {
+        if (limit < 1) throw new BadRequestException("limit must be >= 1.");
+        int size = Math.min(limit, MAX_PAGE_SIZE);
 
-        Evaluation e = requireEvaluation(sub.getEvaluationId());
-
-        List<Question> questions = questionRepo.findByEvaluationIdOrderByPositionAsc(e.getId());
-        Map<Long, Question> qMap = questions.stream().collect(Collectors.toMap(Question::getId, q -> q));
-
-        List<StudentAnswer> answers = answerRepo.findBySubmissionIdOrderByQuestionIdAsc(submissionId);
-
-        List<SubmissionAnswerDetail> detail = answers.stream()
-                .map(a -> {
-                    Question q = qMap.get(a.getQuestionId());
-                    String qLabel = (q == null) ? "(question deleted)" : q.getLabel();
-                    String correct = (q == null) ? null : q.getCorrectAnswer();
-                    return SubmissionAnswerDetail.builder()
-                            .questionId(a.getQuestionId())
-                            .questionLabel(qLabel)
-                            .chosenAnswer(a.getChosenAnswer())
-                            .correctAnswer(correct)
-                            .correct(Boolean.TRUE.equals(a.getCorrect()))
-                            .build();
-                })
-                .toList();
+        // fetch one extra row to know if another page exists
+        List<SubmissionRowResponse> rows = submissionRepo.findRowsAfter(
+                after == null ? 0L : after, evaluationId, studentId, PageRequest.of(0, size + 1));
 
-        return SubmissionDetailResponse.builder()
-                .submissionId(sub.getId())
-                .evaluationId(e.getId())
-                .evaluationTitle(e.getTitle())
-                .activityId(e.getActivityId())
-                .prerequisiteLevel(e.getPrerequisiteLevel())
-                .studentId(sub.getStudentId())
-                .studentFullName(sub.getStudentFullName())
-                .studentLevel(sub.getStudentLevel())
-                .score(sub.getScore())
-                .startedAt(sub.getStartedAt())
-                .submittedAt(sub.getSubmittedAt())
-                .status(sub.getStatus())
-                .answers(detail)
+        boolean hasMore = rows.size() > size;
+        List<SubmissionRowResponse> items = hasMore ? rows.subList(0, size) : rows;
+
+        return SubmissionPageResponse.builder()
+                .items(items)
+                .nextCursor(hasMore ? items.get(items.size() - 1).getSubmissionId() : null)
+                .hasMore(hasMore)
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public void forEachSubmissionRow(Consumer<SubmissionRowResponse> consumer) {
+        try (Stream<SubmissionRowResponse> rows = submissionRepo.streamAllRows()) {
+            rows.forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public SubmissionDetailResponse getSubmissionDetail(Long submissionId) {
+        List<SubmissionDetailResponse> found = toDetails(submissionRepo.findDetailRows(List.of(submissionId)));
+        if (found.isEmpty()) throw new NotFoundException("Submission not found: " + submissionId);
+
+        SubmissionDetailResponse detail = found.get(0);
+        if (detail.getEvaluationTitle() == null) { // title is NOT NULL: the evaluation row is gone
+            throw new NotFoundException("Evaluation not found: " + detail.getEvaluationId());
+        }
+        return detail;
+    }
+
+    /**
+     * Many details in one query, in the order of the requested ids. Unknown ids and
+     * submissions whose evaluation was deleted are left out.
+     */
+    @Transactional(readOnly = true)
+    public List<SubmissionDetailResponse> getSubmissionDetails(List<Long> submissionIds) {
+        Set<Long> ids = new LinkedHashSet<>(submissionIds);
+        ids.remove(null);
+        if (ids.isEmpty()) return List.of();
+        if (ids.size() > MAX_DETAILS_BATCH) {
+            throw new BadRequestException("At most " + MAX_DETAILS_BATCH + " submission ids per request.");
+        }
+
+        Map<Long, SubmissionDetailResponse> byId = new HashMap<>();
+        for (SubmissionDetailResponse d : toDetails(submissionRepo.findDetailRows(ids))) {
+            if (d.getEvaluationTitle() != null) byId.put(d.getSubmissionId(), d);
+        }
+
+        List<SubmissionDetailResponse> out = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            SubmissionDetailResponse d = byId.get(id);
+            if (d != null) out.add(d);
+        }
+        return out;
+    }
+
+    // rows come ordered by submission then question: one header per run of rows
+    private List<SubmissionDetailResponse> toDetails(List<StudentEvaluationRepository.SubmissionDetailRow> rows) {
+        List<SubmissionDetailResponse> out = new ArrayList<>();
+        SubmissionDetailResponse current = null;
+
+        for (StudentEvaluationRepository.SubmissionDetailRow r : rows) {
+            if (current == null || !current.getSubmissionId().equals(r.getSubmissionId())) {
+                current = SubmissionDetailResponse.builder()
+                        .submissionId(r.getSubmissionId())
+                        .evaluationId(r.getEvaluationId())
+                        .evaluationTitle(r.getEvaluationTitle())
+                        .activityId(r.getActivityId())
+                        .prerequisiteLevel(r.getPrerequisiteLevel())
+                        .studentId(r.getStudentId())
+                        .studentFullName(r.getStudentFullName())
+                        .studentLevel(r.getStudentLevel())
+                        .score(r.getScore())
+                        .startedAt(r.getStartedAt())
+                        .submittedAt(r.getSubmittedAt())
+                        .status(r.getStatus())
+                        .answers(new ArrayList<>())
+                        .build();
+                out.add(current);
+            }
+            if (r.getQuestionId() == null) continue; // no answers
+
+            boolean deleted = r.getQuestionLabel() == null;
+            current.getAnswers().add(SubmissionAnswerDetail.builder()
+                    .questionId(r.getQuestionId())
+                    .questionLabel(deleted ? "(question deleted)" : r.getQuestionLabel())
+                    .chosenAnswer(r.getChosenAnswer())
+                    .correctAnswer(deleted ? null : r.getCorrectAnswer())
+                    .correct(Boolean.TRUE.equals(r.getCorrect()))
+                    .build());
+        }
+        return out;
+    }
+
     // -------------------- helpers --------------------
 
     private Evaluation requireEvaluation(Long evaluationId) {
@@ -416,8 +580,96 @@ private SubmissionRowResponse toRow(StudentEvaluation s) {
                 .orElseThrow(() -> new NotFoundException("Evaluation not found: " + evaluationId));
     }
 
+    // loaded on the primary, in its own transaction: a snapshot read from a lagging replica would be cached
+    // (no TTL) right after the publish / edit that invalidated it
+    private PublishedEvaluationSnapshot requirePublishedSnapshot(Long evaluationId) {
+        return publishedCache.get(evaluationId, () -> primaryRead().execute(status -> loadPublishedSnapshot(evaluationId)));
+    }
+
+    private TransactionTemplate primaryRead() {
+        TransactionTemplate t = new TransactionTemplate(tx.getTransactionManager());
+        t.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        t.setReadOnly(true);
+        t.setName(ReadReplicaRoutingDataSource.PRIMARY_TX_NAME);
+        return t;
+    }
+
+    private PublishedEvaluationSnapshot loadPublishedSnapshot(Long evaluationId) {
+        Evaluation e = requireEvaluation(evaluationId);
+        if (e.getStatus() != EvaluationStatus.PUBLISHED) throw new BadRequestException("Evaluation is not published.");
+
+        List<QuestionStudentResponse> questions = questionRepo.findByEvaluationIdOrderByPositionAsc(evaluationId).stream()
+                .map(q -> QuestionStudentResponse.builder()
+                        .id(q.getId())
+                        .label(q.getLabel())
+                        .options(q.getOptions()) // immutable OptionList
+                        .position(q.getPosition())
+                        .build())
+                .toList();
+
+        try {
+            byte[] questionsJson = objectMapper.writeValueAsBytes(questions);
+            return new PublishedEvaluationSnapshot(
+                    e.getId(),
+                    e.getTitle(),
+                    e.getIntroduction(),
+                    e.getActivityId(),
+                    e.getPrerequisiteLevel(),
+                    questions,
+                    questionsJson,
+                    renderStartHead(e),
+                    renderStartTail(questionsJson)
+            );
+        } catch (IOException ex) {
+            throw new IllegalStateException("Cannot serialize questions of evaluation " + evaluationId, ex);
+        }
+    }
+
+    // "evaluationId":..,"title":..,"introduction":..,"startedAt":   (field order of StartEvaluationResponse)
+    private byte[] renderStartHead(Evaluation e) throws IOException {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream(256);
+        try (JsonGenerator g = objectMapper.getFactory().createGenerator(buf)) {
+            g.writeStartObject();
+            g.writeObjectField("evaluationId", e.getId());
+            g.writeObjectField("title", e.getTitle());
+            g.writeObjectField("introduction", e.getIntroduction());
+            g.writeFieldName("startedAt");
+            g.writeNull(); // placeholder, cut below
+            g.writeEndObject();
+        }
+        String json = buf.toString(StandardCharsets.UTF_8);
+        String head = json.substring(1, json.length() - "null}".length());
+        return head.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] renderStartTail(byte[] questionsJson) {
+        byte[] open = ",\"questions\":".getBytes(StandardCharsets.UTF_8);
+        byte[] tail = Arrays.copyOf(open, open.length + questionsJson.length + 1);
+        System.arraycopy(questionsJson, 0, tail, open.length, questionsJson.length);
+        tail[tail.length - 1] = '}';
+        return tail;
+    }
+
     private EvaluationResponse toEvalResponse(Evaluation e) {
-        long qCount = questionRepo.countByEvaluationId(e.getId());
+        return toEvalResponse(e, questionRepo.countByEvaluationId(e.getId()));
+    }
+
+    // list endpoints: questionsCount for every evaluation from one grouped query
+    private List<EvaluationResponse> toEvalResponses(List<Evaluation> evaluations) {
+        if (evaluations.isEmpty()) return List.of();
+
+        List<Long> ids = evaluations.stream().map(Evaluation::getId).toList();
+        Map<Long, Long> counts = questionRepo.countGroupedByEvaluationId(ids).stream()
+                .collect(Collectors.toMap(
+                        QuestionRepository.QuestionCount::getEvaluationId,
+                        QuestionRepository.QuestionCount::getQuestionsCount));
+
+        return evaluations.stream()
+                .map(e -> toEvalResponse(e, counts.getOrDefault(e.getId(), 0L)))
+                .toList();
+    }
+
+    private EvaluationResponse toEvalResponse(Evaluation e, long qCount) {
         return EvaluationResponse.builder()
                 .id(e.getId())
                 .title(e.getTitle())
@@ -0,0 +1,82 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.common.NotFoundException;
+import com.example.evaluationservice.dto.EvaluationStatsResponse;
+import com.example.evaluationservice.repository.EvaluationRepository;
+import com.example.evaluationservice.repository.EvaluationStatsRepository;
+import com.example.evaluationservice.repository.EvaluationStatsRepository.Totals;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.evaluationservice.repository.EvaluationStatsRepository.BUCKETS;
+
+/**
+ * Reads the aggregates kept up to date by submit() and the rescore job:
+ * one row per evaluation plus one per question, whatever the number of submissions.
+ */
+@Service
+public class EvaluationStatsService {
+
+    private final EvaluationRepository evaluationRepo;
+    private final EvaluationStatsRepository statsRepo;
+
+    public EvaluationStatsService(EvaluationRepository evaluationRepo, EvaluationStatsRepository statsRepo) {
+        this.evaluationRepo = evaluationRepo;
+        this.statsRepo = statsRepo;
+    }
+
+    @Transactional(readOnly = true)
+    public EvaluationStatsResponse get(Long evaluationId) {
+        if (!evaluationRepo.existsById(evaluationId)) throw new NotFoundException("Evaluation not found: " + evaluationId);
+
+        Totals t = statsRepo.findTotals(evaluationId).orElse(new Totals(0, 0, 0, 0, new long[BUCKETS]));
+        long n = t.getSubmissions();
+
+        Double mean = null, stdDev = null, passRate = null;
+        if (n > 0) {
+            double m = (double) t.getScoreSum() / n;
+            mean = round(m);
+            stdDev = round(Math.sqrt(Math.max(0, (double) t.getScoreSumSq() / n - m * m)));
+            passRate = round((double) t.getPassed() / n);
+        }
+
+        List<EvaluationStatsResponse.ScoreBucket> histogram = new ArrayList<>(BUCKETS);
+        for (int b = 0; b < BUCKETS; b++) {
+            histogram.add(EvaluationStatsResponse.ScoreBucket.builder()
+                    .from(b * 10)
+                    .to(b == BUCKETS - 1 ? 100 : b * 10 + 9)
+                    .count(t.getBuckets()[b])
+                    .build());
+        }
+
+        List<EvaluationStatsResponse.QuestionStats> questions = statsRepo.findQuestionTotals(evaluationId).stream()
+                .map(q -> EvaluationStatsResponse.QuestionStats.builder()
+                        .questionId(q.getQuestionId())
+                        .position(q.getPosition())
+                        .label(q.getLabel())
+                        .attempts(q.getAttempts())
+                        .answered(q.getAnswered())
+                        .correct(q.getCorrect())
+                        .difficulty(q.getAttempts() == 0 ? null : round((double) q.getCorrect() / q.getAttempts()))
+                        .build())
+                .toList();
+
+        return EvaluationStatsResponse.builder()
+                .evaluationId(evaluationId)
+                .submissions(n)
+                .averageScore(mean)
+                .standardDeviation(stdDev)
+                .passScore(statsRepo.passScore())
+                .passRate(passRate)
+                .histogram(histogram)
+                .questions(questions)
+                .build();
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 1000.0) / 1000.0;
+    }
+}
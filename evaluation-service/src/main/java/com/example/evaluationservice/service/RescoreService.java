@@ -0,0 +1,254 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.common.ConflictException;
+import com.example.evaluationservice.common.NotFoundException;
+import com.example.evaluationservice.domain.SubmissionChangeType;
+import com.example.evaluationservice.domain.SubmissionStatus;
+import com.example.evaluationservice.dto.RescoreStatusResponse;
+import com.example.evaluationservice.entity.StudentAnswer;
+import com.example.evaluationservice.repository.EvaluationRepository;
+import com.example.evaluationservice.repository.EvaluationStatsRepository;
+import com.example.evaluationservice.repository.QuestionRepository;
+import com.example.evaluationservice.repository.StudentAnswerRepository;
+import com.example.evaluationservice.repository.StudentEvaluationRepository;
+import com.example.evaluationservice.repository.StudentEvaluationRepository.SubmissionScore;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recomputes StudentEvaluation.score and StudentAnswer.correct for every submitted attempt
+ * of an evaluation, e.g. after its answer key was corrected. Submissions are read in keyset
+ * chunks, scored in parallel and only rows whose value changed are written back in batches,
+ * so memory is bounded by (chunk size x chunks in flight), not by the number of submissions.
+ * <p>
+ * At most one run per evaluation: a second start while one is running is rejected (409).
+ * The guard and the progress it reports live in this instance's memory only, so with several
+ * instances behind the gateway two of them can still rescore the same evaluation at once.
+ */
+@Service
+public class RescoreService {
+
+    private static final Logger log = LoggerFactory.getLogger(RescoreService.class);
+
+    private final EvaluationRepository evaluationRepo;
+    private final QuestionRepository questionRepo;
+    private final StudentEvaluationRepository submissionRepo;
+    private final StudentAnswerRepository answerRepo;
+    private final EvaluationStatsRepository statsRepo;
+    private final ScoringService scoring;
+    private final SubmissionChangeFeed changes;
+    private final TransactionTemplate tx;
+
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+    private final ExecutorService workers;
+    private final ExecutorService coordinators;
+
+    // per instance: see class comment
+    private final ConcurrentHashMap<Long, RescoreJob> jobs = new ConcurrentHashMap<>();
+
+    public RescoreService(
+            EvaluationRepository evaluationRepo,
+            QuestionRepository questionRepo,
+            StudentEvaluationRepository submissionRepo,
+            StudentAnswerRepository answerRepo,
+            EvaluationStatsRepository statsRepo,
+            ScoringService scoring,
+            SubmissionChangeFeed changes,
+            PlatformTransactionManager txManager,
+            @Value("${evaluation.rescore.chunk-size:500}") int chunkSize,
+            @Value("${evaluation.rescore.workers:0}") int workerCount
+    ) {
+        this.evaluationRepo = evaluationRepo;
+        this.questionRepo = questionRepo;
+        this.submissionRepo = submissionRepo;
+        this.answerRepo = answerRepo;
+        this.statsRepo = statsRepo;
+        this.scoring = scoring;
+        this.changes = changes;
+        this.tx = new TransactionTemplate(txManager);
+        this.chunkSize = chunkSize;
+
+        int threads = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        this.maxChunksInFlight = threads * 2;
+        this.workers = Executors.newFixedThreadPool(threads, named("rescore-worker-"));
+        this.coordinators = Executors.newCachedThreadPool(named("rescore-"));
+    }
+
+    public RescoreStatusResponse start(Long evaluationId) {
+        if (!evaluationRepo.existsById(evaluationId)) throw new NotFoundException("Evaluation not found: " + evaluationId);
+
+        RescoreJob job = new RescoreJob(evaluationId);
+        RescoreJob current = jobs.compute(evaluationId, (id, prev) -> prev != null && prev.isRunning() ? prev : job);
+        if (current != job) throw new ConflictException("A rescore of evaluation " + evaluationId + " is already running.");
+
+        coordinators.execute(() -> run(job));
+        return job.toResponse();
+    }
+
+    public RescoreStatusResponse status(Long evaluationId) {
+        RescoreJob job = jobs.get(evaluationId);
+        if (job == null) throw new NotFoundException("No rescore for evaluation: " + evaluationId);
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinators.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void run(RescoreJob job) {
+        Long evaluationId = job.evaluationId;
+        try {
+            AnswerKey key = scoring.compile(questionRepo.findByEvaluationIdOrderByPositionAsc(evaluationId));
+            job.total.set(submissionRepo.countByEvaluationIdAndStatus(evaluationId, SubmissionStatus.SUBMITTED));
+
+            Semaphore inFlight = new Semaphore(maxChunksInFlight);
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            long after = 0L;
+
+            while (true) {
+                List<SubmissionScore> chunk = submissionRepo.findScoresAfter(
+                        evaluationId, SubmissionStatus.SUBMITTED, after, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) break;
+                after = chunk.get(chunk.size() - 1).getId();
+
+                inFlight.acquire(); // keyset reading waits for the workers
+                chunks.add(CompletableFuture
+                        .runAsync(() -> rescoreChunk(key, chunk, job), workers)
+                        .whenComplete((r, e) -> inFlight.release()));
+            }
+
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+            job.finish(null);
+            log.info("Rescored evaluation {}: {} submissions, {} scores changed, {} answers changed in {}",
+                    evaluationId, job.processed.get(), job.changedSubmissions.get(), job.changedAnswers.get(),
+                    Duration.between(job.startedAt, job.finishedAt));
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.warn("Rescore of evaluation {} failed", evaluationId, cause);
+            job.finish(cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage());
+        }
+    }
+
+    private void rescoreChunk(AnswerKey key, List<SubmissionScore> chunk, RescoreJob job) {
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (SubmissionScore s : chunk) ids.add(s.getId());
+
+        Map<Long, List<StudentAnswer>> bySubmission = new HashMap<>(chunk.size() * 2);
+        for (StudentAnswer a : answerRepo.loadForSubmissions(ids)) {
+            bySubmission.computeIfAbsent(a.getSubmissionId(), k -> new ArrayList<>(key.size())).add(a);
+        }
+
+        List<StudentAnswer> changedAnswers = new ArrayList<>();
+        Map<Long, Integer> changedScores = new LinkedHashMap<>();
+        List<int[]> scoreMoves = new ArrayList<>();
+        Map<Long, Integer> correctDelta = new HashMap<>();
+        byte[] response = key.newResponse();
+        byte[] unanswered = key.newResponse();
+
+        for (SubmissionScore s : chunk) {
+            List<StudentAnswer> answers = bySubmission.getOrDefault(s.getId(), List.of());
+            System.arraycopy(unanswered, 0, response, 0, response.length);
+
+            for (StudentAnswer a : answers) {
+                int i = key.indexOf(a.getQuestionId());
+                if (i >= 0) response[i] = key.optionIndex(i, a.getChosenAnswer() == null ? "" : a.getChosenAnswer());
+            }
+
+            ScoreResult result = scoring.score(key, response);
+
+            for (StudentAnswer a : answers) {
+                int i = key.indexOf(a.getQuestionId());
+                if (i < 0) continue; // question deleted since
+                boolean ok = result.getCorrect().get(i);
+                if (ok != Boolean.TRUE.equals(a.getCorrect())) {
+                    a.setCorrect(ok);
+                    changedAnswers.add(a);
+                    correctDelta.merge(a.getQuestionId(), ok ? 1 : -1, Integer::sum);
+                }
+            }
+            if (!Objects.equals(s.getScore(), result.getPercent())) {
+                changedScores.put(s.getId(), result.getPercent());
+                if (s.getScore() != null) scoreMoves.add(new int[]{s.getScore(), result.getPercent()});
+            }
+        }
+
+        if (!changedAnswers.isEmpty() || !changedScores.isEmpty()) {
+            tx.executeWithoutResult(st -> {
+                answerRepo.updateCorrect(changedAnswers);
+                submissionRepo.updateScores(changedScores);
+                statsRepo.applyRescore(job.evaluationId, scoreMoves, correctDelta);
+                changes.recordAll(job.evaluationId, changedScores.keySet(), SubmissionChangeType.RESCORED);
+            });
+        }
+        job.processed.addAndGet(chunk.size());
+        job.changedSubmissions.addAndGet(changedScores.size());
+        job.changedAnswers.addAndGet(changedAnswers.size());
+    }
+
+    private static ThreadFactory named(String prefix) {
+        AtomicInteger n = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private static final class RescoreJob {
+        final Long evaluationId;
+        final Instant startedAt = Instant.now();
+        final AtomicLong total = new AtomicLong();
+        final AtomicLong processed = new AtomicLong();
+        final AtomicLong changedSubmissions = new AtomicLong();
+        final AtomicLong changedAnswers = new AtomicLong();
+        volatile Instant finishedAt;
+        volatile String error;
+
+        RescoreJob(Long evaluationId) {
+            this.evaluationId = evaluationId;
+        }
+
+        boolean isRunning() {
+            return finishedAt == null;
+        }
+
+        void finish(String error) {
+            this.error = error;
+            this.finishedAt = Instant.now();
+        }
+
+        RescoreStatusResponse toResponse() {
+            Instant end = finishedAt == null ? Instant.now() : finishedAt;
+            double seconds = Math.max(Duration.between(startedAt, end).toMillis(), 1) / 1000.0;
+
+            return RescoreStatusResponse.builder()
+                    .evaluationId(evaluationId)
+                    .state(isRunning() ? "RUNNING" : error == null ? "DONE" : "FAILED")
+                    .totalSubmissions(total.get())
+                    .processedSubmissions(processed.get())
+                    .changedSubmissions(changedSubmissions.get())
+                    .changedAnswers(changedAnswers.get())
+                    .submissionsPerSecond(Math.round(processed.get() / seconds * 10.0) / 10.0)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
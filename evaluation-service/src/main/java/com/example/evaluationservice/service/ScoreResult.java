@@ -0,0 +1,15 @@
+package com.example.evaluationservice.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.BitSet;
+
+@Getter
+@AllArgsConstructor
+public class ScoreResult {
+    private final BitSet correct;   // bit i set <=> question i of the key answered correctly
+    private final double earned;    // weighted points, including partial credit
+    private final double total;     // sum of weights
+    private final int percent;      // 0..100
+}
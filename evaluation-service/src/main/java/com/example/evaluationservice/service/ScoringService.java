@@ -1,11 +1,75 @@
 package com.example.evaluationservice.service;
 
+import com.example.evaluationservice.entity.Question;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
 @Service
 public class ScoringService {
+
     public int percent(int correct, int total) {
         if (total <= 0) return 0;
         return (int) Math.round((correct * 100.0) / total);
     }
+
+    public int percent(double earned, double total) {
+        if (total <= 0) return 0;
+        return (int) Math.round((earned * 100.0) / total);
+    }
+
+    /** Compiles questions (already in position order) into an index-based answer key. */
+    public AnswerKey compile(List<Question> questions) {
+        int n = questions.size();
+        long[] ids = new long[n];
+        byte[] correct = new byte[n];
+        String[][] options = new String[n][];
+        double[] weights = new double[n];
+        byte[][] credits = new byte[n][];
+
+        for (int i = 0; i < n; i++) {
+            Question q = questions.get(i);
+            List<String> opts = new ArrayList<>(q.getOptions() == null ? List.of() : q.getOptions());
+
+            int c = opts.indexOf(q.getCorrectAnswer());
+            if (c < 0) {
+                // options unreadable or key not among them: still score by the stored correct answer
+                opts.add(q.getCorrectAnswer());
+                c = opts.size() - 1;
+            }
+            if (opts.size() > AnswerKey.MAX_OPTIONS) {
+                throw new IllegalStateException("Question " + q.getId() + " has too many options to score.");
+            }
+
+            ids[i] = q.getId();
+            correct[i] = (byte) c;
+            options[i] = opts.toArray(String[]::new);
+            weights[i] = q.getWeight() == null ? 1.0 : q.getWeight();
+            credits[i] = q.getOptionCredits();
+        }
+        return new AnswerKey(ids, correct, options, weights, credits);
+    }
+
+    /**
+     * Scores a response array (option index per key question) in one pass: the percent is the share
+     * of the total weight earned, full weight for a correct answer and the option's partial credit otherwise.
+     */
+    public ScoreResult score(AnswerKey key, byte[] response) {
+        int n = key.size();
+        BitSet correct = new BitSet(n);
+        double earned = 0;
+
+        for (int i = 0; i < n; i++) {
+            byte chosen = response[i];
+            if (chosen == key.correctOption(i)) {
+                correct.set(i);
+                earned += key.weight(i);
+            } else if (chosen >= 0) {
+                earned += key.weight(i) * key.credit(i, chosen);
+            }
+        }
+        return new ScoreResult(correct, earned, key.totalWeight(), percent(earned, key.totalWeight()));
+    }
 }
@@ -0,0 +1,262 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.common.ChangesExpiredException;
+import com.example.evaluationservice.domain.SubmissionChangeType;
+import com.example.evaluationservice.dto.SubmissionChangePageResponse;
+import com.example.evaluationservice.dto.SubmissionChangeResponse;
+import com.example.evaluationservice.dto.SubmissionRowResponse;
+import com.example.evaluationservice.repository.StudentEvaluationRepository;
+import com.example.evaluationservice.repository.SubmissionChangeRepository;
+import com.example.evaluationservice.repository.SubmissionChangeRepository.NewChange;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Ordered feed of submission changes for downstream services (GET /api/v1/submissions/changes?since=...).
+ * <p>
+ * Writers record a change in the transaction that makes it (outbox), so a change is in the feed if and only
+ * if it committed. Readers follow seq; each item carries the submission as it is now, so applying an item
+ * twice or out of date changes nothing.
+ * <p>
+ * The changes of a transaction are kept in memory and written just before it commits, with seqs reserved from
+ * a single sequence row whose lock is held until the commit: seq order is commit order and a rollback leaves
+ * no gap, so once seq 11 is visible nothing can still appear at 10, however long its transaction ran.
+ * Writing transactions serialize on that row only for their last statements and the commit itself.
+ * Long-poll waiters are woken after a local commit, and by a periodic check for changes written by other instances.
+ */
+@Service
+public class SubmissionChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(SubmissionChangeFeed.class);
+
+    public static final int MAX_PAGE_SIZE = 1000;
+    private static final int PRUNE_BATCH = 10_000;
+
+    private final SubmissionChangeRepository changeRepo;
+    private final StudentEvaluationRepository submissionRepo;
+    private final EntityManager entityManager;
+    private final long maxWaitMs;
+    private final Duration retention;
+
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean wakeQueued = new AtomicBoolean();
+    private final ExecutorService notifier = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "submission-changes-notifier");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SubmissionChangeFeed(
+            SubmissionChangeRepository changeRepo,
+            StudentEvaluationRepository submissionRepo,
+            EntityManager entityManager,
+            @Value("${evaluation.changes.max-wait-ms:30000}") long maxWaitMs,
+            @Value("${evaluation.changes.retention-hours:168}") long retentionHours
+    ) {
+        this.changeRepo = changeRepo;
+        this.submissionRepo = submissionRepo;
+        this.entityManager = entityManager;
+        this.maxWaitMs = maxWaitMs;
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    // -------------------- WRITE (inside the caller's transaction) --------------------
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(long submissionId, long evaluationId, SubmissionChangeType type) {
+        pending().add(new NewChange(submissionId, evaluationId, type));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(long evaluationId, Collection<Long> submissionIds, SubmissionChangeType type) {
+        if (submissionIds.isEmpty()) return;
+        List<NewChange> changes = pending();
+        for (Long id : submissionIds) changes.add(new NewChange(id, evaluationId, type));
+    }
+
+    /** To be called before the submissions of the evaluation are deleted. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordEvaluationDeleted(long evaluationId) {
+        recordAll(evaluationId, submissionRepo.findIdsByEvaluationId(evaluationId), SubmissionChangeType.DELETED);
+    }
+
+    // changes of the current transaction (found among its synchronizations, so a suspended outer one keeps its own)
+    private List<NewChange> pending() {
+        for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+            if (s instanceof PendingChanges p) return p.changes;
+        }
+        PendingChanges p = new PendingChanges();
+        TransactionSynchronizationManager.registerSynchronization(p);
+        return p.changes;
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+
+        final List<NewChange> changes = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // entity writes first: their row locks are taken before the sequence lock, never while holding it
+            entityManager.flush();
+            changeRepo.insertAtCommit(changes);
+        }
+
+        @Override
+        public void afterCommit() {
+            wake();
+        }
+    }
+
+    // -------------------- READ --------------------
+
+    /**
+     * Changes after since, oldest first. Without since: no items, nextSince = the current head
+     * (follow from now on, after loading the current state some other way).
+     */
+    public SubmissionChangePageResponse read(Long since, int limit) {
+        if (since == null) return page(List.of(), changeRepo.head(), false);
+
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<SubmissionChangeResponse> rows = changeRepo.findAfter(since, size + 1);
+        // seqs have no gaps: a first row past since + 1 means the ones before it were pruned
+        if (!rows.isEmpty() && rows.get(0).getSequence() != since + 1) requireRetained(since);
+
+        boolean hasMore = rows.size() > size;
+        List<SubmissionChangeResponse> items = hasMore ? rows.subList(0, size) : rows;
+        attachRows(items);
+        return page(items, items.isEmpty() ? since : items.get(items.size() - 1).getSequence(), hasMore);
+    }
+
+    /**
+     * Same as read, but when nothing is readable yet the answer waits (at most waitMs, capped)
+     * for the next change; an empty page with the same nextSince is returned on timeout.
+     */
+    public DeferredResult<SubmissionChangePageResponse> poll(Long since, int limit, long waitMs) {
+        if (since == null || waitMs <= 0) {
+            DeferredResult<SubmissionChangePageResponse> now = new DeferredResult<>();
+            now.setResult(read(since, limit));
+            return now;
+        }
+
+        DeferredResult<SubmissionChangePageResponse> result =
+                new DeferredResult<>(Math.min(waitMs, maxWaitMs), () -> page(List.of(), since, false));
+        Waiter waiter = new Waiter(since, limit, result);
+        result.onCompletion(() -> waiters.remove(waiter));
+        // registered before the first read: a change committed in between still wakes it
+        waiters.add(waiter);
+        tryComplete(waiter, new HashMap<>());
+        return result;
+    }
+
+    private void requireRetained(long since) {
+        Long oldest = changeRepo.oldest();
+        if (oldest != null && since + 1 < oldest) {
+            throw new ChangesExpiredException("Changes after " + since + " are no longer kept; reload and follow from the head.");
+        }
+    }
+
+    // current state of each submission, null when it no longer exists
+    private void attachRows(List<SubmissionChangeResponse> items) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (SubmissionChangeResponse c : items) {
+            if (c.getType() != SubmissionChangeType.DELETED) ids.add(c.getSubmissionId());
+        }
+        if (ids.isEmpty()) return;
+
+        Map<Long, SubmissionRowResponse> rows = new HashMap<>(ids.size() * 2);
+        for (SubmissionRowResponse r : submissionRepo.findRowsByIds(ids)) rows.put(r.getSubmissionId(), r);
+        for (SubmissionChangeResponse c : items) c.setSubmission(rows.get(c.getSubmissionId()));
+    }
+
+    private static SubmissionChangePageResponse page(List<SubmissionChangeResponse> items, long nextSince, boolean hasMore) {
+        return SubmissionChangePageResponse.builder().items(items).nextSince(nextSince).hasMore(hasMore).build();
+    }
+
+    // -------------------- LONG POLL --------------------
+
+    private void wake() {
+        if (waiters.isEmpty() || !wakeQueued.compareAndSet(false, true)) return;
+        notifier.execute(() -> {
+            wakeQueued.set(false);
+            wakeWaiters();
+        });
+    }
+
+    /** Changes committed by other instances. */
+    @Scheduled(fixedDelayString = "${evaluation.changes.poll-interval-ms:1000}")
+    public void scheduledWake() {
+        try {
+            wakeWaiters();
+        } catch (RuntimeException e) {
+            log.warn("Submission change feed: waking waiters failed", e);
+        }
+    }
+
+    synchronized void wakeWaiters() {
+        if (waiters.isEmpty()) return;
+        long head = changeRepo.head();
+        Map<List<Long>, SubmissionChangePageResponse> pages = new HashMap<>(); // waiters at the same position share a read
+        for (Waiter w : waiters) {
+            if (w.since < head) tryComplete(w, pages);
+        }
+    }
+
+    private void tryComplete(Waiter w, Map<List<Long>, SubmissionChangePageResponse> pages) {
+        SubmissionChangePageResponse page;
+        try {
+            page = pages.computeIfAbsent(List.of(w.since, (long) w.limit), k -> read(w.since, w.limit));
+        } catch (ChangesExpiredException e) {
+            w.result.setErrorResult(e);
+            waiters.remove(w);
+            return;
+        }
+        if (page.getItems().isEmpty()) return;
+        w.result.setResult(page);
+        waiters.remove(w);
+    }
+
+    private record Waiter(long since, int limit, DeferredResult<SubmissionChangePageResponse> result) {
+    }
+
+    // -------------------- RETENTION --------------------
+
+    @Scheduled(fixedDelayString = "${evaluation.changes.prune-interval-ms:3600000}",
+            initialDelayString = "${evaluation.changes.prune-interval-ms:3600000}")
+    public int prune() {
+        if (retention.isZero() || retention.isNegative()) return 0;
+
+        long head = changeRepo.head();
+        Instant cutoff = Instant.now().minus(retention);
+        int deleted = 0, n;
+        do {
+            n = changeRepo.deleteOlderThan(cutoff, head, PRUNE_BATCH);
+            deleted += n;
+        } while (n == PRUNE_BATCH);
+
+        if (deleted > 0) log.info("Submission change feed: pruned {} changes older than {}", deleted, cutoff);
+        return deleted;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        notifier.shutdownNow();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.common.BadRequestException;
+import com.example.evaluationservice.common.NotFoundException;
+import com.example.evaluationservice.common.ServiceBusyException;
+import com.example.evaluationservice.domain.SubmissionJobStatus;
+import com.example.evaluationservice.domain.SubmissionStatus;
+import com.example.evaluationservice.dto.SubmitAnswersRequest;
+import com.example.evaluationservice.dto.SubmitJobStatusResponse;
+import com.example.evaluationservice.entity.StudentEvaluation;
+import com.example.evaluationservice.entity.SubmissionJob;
+import com.example.evaluationservice.repository.StudentEvaluationRepository;
+import com.example.evaluationservice.repository.SubmissionJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Intake side of the asynchronous submit: validates, appends the answers to submission_jobs
+ * and returns immediately. Scoring happens in SubmissionWorker.
+ */
+@Service
+@RequiredArgsConstructor
+public class SubmissionQueueService {
+
+    private static final EnumSet<SubmissionJobStatus> QUEUED =
+            EnumSet.of(SubmissionJobStatus.PENDING, SubmissionJobStatus.PROCESSING);
+
+    private final SubmissionJobRepository jobRepo;
+    private final StudentEvaluationRepository submissionRepo;
+    private final ObjectMapper objectMapper;
+
+    @Value("${evaluation.submissions.queue.max-pending:10000}")
+    private long maxPending;
+
+    public SubmitJobStatusResponse accept(Long submissionId, SubmitAnswersRequest req) {
+        StudentEvaluation sub = requireSubmission(submissionId);
+
+        if (!Objects.equals(sub.getStudentId(), req.getStudentId())) {
+            throw new BadRequestException("studentId does not match this submission.");
+        }
+        if (sub.getStatus() == SubmissionStatus.SUBMITTED) {
+            throw new BadRequestException("Submission already submitted.");
+        }
+
+        Optional<SubmissionJob> existing = jobRepo.findBySubmissionId(submissionId);
+        if (existing.isPresent() && QUEUED.contains(existing.get().getStatus())) {
+            return toStatus(sub, existing.get()); // double submit: already queued
+        }
+
+        // ✅ backpressure: refuse instead of growing the queue without bound
+        if (jobRepo.countByStatusIn(QUEUED) >= maxPending) {
+            throw new ServiceBusyException("Submission queue is full, retry later.");
+        }
+
+        SubmissionJob job = existing.orElseGet(SubmissionJob::new); // a FAILED job is re-queued
+        job.setSubmissionId(submissionId);
+        job.setStudentId(req.getStudentId());
+        job.setAnswersJson(writeAnswers(req));
+        job.setStatus(SubmissionJobStatus.PENDING);
+        job.setAttempts(0);
+        job.setNextAttemptAt(Instant.now());
+        job.setClaimedBy(null);
+        job.setClaimedAt(null);
+        job.setLastError(null);
+
+        try {
+            return toStatus(sub, jobRepo.saveAndFlush(job));
+        } catch (DataIntegrityViolationException race) {
+            // concurrent accept for the same submission
+            return jobRepo.findBySubmissionId(submissionId)
+                    .map(j -> toStatus(sub, j))
+                    .orElseThrow(() -> race);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public SubmitJobStatusResponse status(Long submissionId) {
+        StudentEvaluation sub = requireSubmission(submissionId);
+        Optional<SubmissionJob> job = jobRepo.findBySubmissionId(submissionId);
+
+        if (job.isEmpty() && sub.getStatus() != SubmissionStatus.SUBMITTED) {
+            throw new NotFoundException("No queued submit for submission: " + submissionId);
+        }
+        return toStatus(sub, job.orElse(null));
+    }
+
+    public static String statusUrl(Long submissionId) {
+        return "/api/v1/submissions/" + submissionId + "/submit-status";
+    }
+
+    private SubmitJobStatusResponse toStatus(StudentEvaluation sub, SubmissionJob job) {
+        // the submission row is the source of truth once scored (also covers a synchronous submit)
+        boolean done = sub.getStatus() == SubmissionStatus.SUBMITTED;
+
+        return SubmitJobStatusResponse.builder()
+                .submissionId(sub.getId())
+                .status(done ? SubmissionJobStatus.DONE.name() : job.getStatus().name())
+                .attempts(job == null ? 0 : job.getAttempts())
+                .score(done ? sub.getScore() : null)
+                .submittedAt(done ? sub.getSubmittedAt() : null)
+                .error(!done && job.getStatus() == SubmissionJobStatus.FAILED ? job.getLastError() : null)
+                .statusUrl(statusUrl(sub.getId()))
+                .build();
+    }
+
+    private StudentEvaluation requireSubmission(Long submissionId) {
+        return submissionRepo.findById(submissionId)
+                .orElseThrow(() -> new NotFoundException("Submission not found: " + submissionId));
+    }
+
+    private String writeAnswers(SubmitAnswersRequest req) {
+        try {
+            return objectMapper.writeValueAsString(req.getAnswers());
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Cannot serialize answers.");
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.common.BadRequestException;
+import com.example.evaluationservice.common.NotFoundException;
+import com.example.evaluationservice.domain.SubmissionJobStatus;
+import com.example.evaluationservice.dto.SubmitAnswersRequest;
+import com.example.evaluationservice.entity.SubmissionJob;
+import com.example.evaluationservice.repository.SubmissionJobRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains submission_jobs: claims due jobs in batches and scores each one through
+ * EvaluationService.submit (ScoringService) on a bounded worker pool, with retry and backoff.
+ */
+@Component
+public class SubmissionWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(SubmissionWorker.class);
+    private static final TypeReference<List<SubmitAnswersRequest.AnswerItem>> ANSWERS = new TypeReference<>() {};
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+    private final SubmissionJobRepository jobRepo;
+    private final EvaluationService evaluationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate tx;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration staleClaim;
+
+    private final ThreadPoolExecutor workers;
+    private final Semaphore inFlight; // never claim more jobs than the pool can hold
+    private Instant lastStaleRelease = Instant.EPOCH;
+
+    public SubmissionWorker(
+            SubmissionJobRepository jobRepo,
+            EvaluationService evaluationService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager txManager,
+            @Value("${evaluation.submissions.queue.enabled:true}") boolean enabled,
+            @Value("${evaluation.submissions.queue.workers:4}") int workerCount,
+            @Value("${evaluation.submissions.queue.batch-size:50}") int batchSize,
+            @Value("${evaluation.submissions.queue.max-attempts:5}") int maxAttempts,
+            @Value("${evaluation.submissions.queue.stale-claim-ms:300000}") long staleClaimMs
+    ) {
+        this.jobRepo = jobRepo;
+        this.evaluationService = evaluationService;
+        this.objectMapper = objectMapper;
+        this.tx = new TransactionTemplate(txManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.staleClaim = Duration.ofMillis(staleClaimMs);
+
+        AtomicInteger n = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount),
+                r -> new Thread(r, "submission-worker-" + n.incrementAndGet()));
+        this.inFlight = new Semaphore(workerCount * 2);
+    }
+
+    @Scheduled(fixedDelayString = "${evaluation.submissions.queue.poll-interval-ms:200}")
+    public void poll() {
+        if (!enabled) return;
+
+        int capacity = Math.min(inFlight.availablePermits(), batchSize);
+        if (capacity == 0) return;
+
+        Instant now = Instant.now();
+        String token = UUID.randomUUID().toString();
+
+        List<SubmissionJob> claimed = tx.execute(s -> {
+            if (lastStaleRelease.plus(staleClaim).isBefore(now)) {
+                jobRepo.releaseStale(now.minus(staleClaim));
+                lastStaleRelease = now;
+            }
+            List<Long> ids = jobRepo.findDueIds(now, PageRequest.of(0, capacity));
+            if (ids.isEmpty()) return List.of();
+            jobRepo.claim(ids, token, now);
+            return jobRepo.findByClaimedByAndStatus(token, SubmissionJobStatus.PROCESSING);
+        });
+
+        for (SubmissionJob job : claimed) {
+            inFlight.acquireUninterruptibly();
+            workers.execute(() -> {
+                try {
+                    process(job);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    void process(SubmissionJob job) {
+        int attempt = job.getAttempts() + 1;
+        try {
+            SubmitAnswersRequest req = SubmitAnswersRequest.builder()
+                    .studentId(job.getStudentId())
+                    .answers(objectMapper.readValue(job.getAnswersJson(), ANSWERS))
+                    .build();
+
+            // scoring, answers and job state commit together
+            tx.executeWithoutResult(s -> {
+                evaluationService.submit(job.getSubmissionId(), req);
+                jobRepo.finish(job.getId(), SubmissionJobStatus.DONE, attempt, Instant.now(), null);
+            });
+        } catch (BadRequestException | NotFoundException | com.fasterxml.jackson.core.JacksonException e) {
+            // not retryable: the request itself is wrong or the submission is gone
+            finish(job, SubmissionJobStatus.FAILED, attempt, Instant.now(), e.getMessage());
+        } catch (RuntimeException e) {
+            if (attempt >= maxAttempts) {
+                log.warn("Submission job {} failed after {} attempts", job.getId(), attempt, e);
+                finish(job, SubmissionJobStatus.FAILED, attempt, Instant.now(), e.getMessage());
+            } else {
+                finish(job, SubmissionJobStatus.PENDING, attempt, Instant.now().plus(backoff(attempt)), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void finish(SubmissionJob job, SubmissionJobStatus status, int attempts, Instant nextAttemptAt, String error) {
+        String msg = error == null ? null : error.substring(0, Math.min(error.length(), 1000));
+        tx.executeWithoutResult(s -> jobRepo.finish(job.getId(), status, attempts, nextAttemptAt, msg));
+    }
+
+    private static Duration backoff(int attempt) {
+        Duration d = Duration.ofSeconds(1L << Math.min(attempt - 1, 6));
+        return d.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : d;
+    }
+}
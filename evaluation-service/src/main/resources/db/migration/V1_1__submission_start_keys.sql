@@ -0,0 +1,16 @@
+-- start() de-duplication: at most one open attempt per (evaluation, student), and replay of
+-- retried start requests by their Idempotency-Key.
+
+ALTER TABLE student_evaluations ADD COLUMN in_progress_key VARCHAR(64);
+ALTER TABLE student_evaluations ADD COLUMN idempotency_key VARCHAR(128);
+
+-- the latest open attempt of each student keeps the slot; older duplicates stay without a key
+UPDATE student_evaluations
+SET in_progress_key = CONCAT(evaluation_id, ':', student_id)
+WHERE id IN (SELECT id FROM (SELECT MAX(id) AS id
+                             FROM student_evaluations
+                             WHERE status = 'IN_PROGRESS' AND student_id IS NOT NULL
+                             GROUP BY evaluation_id, student_id) latest);
+
+ALTER TABLE student_evaluations ADD CONSTRAINT uk_student_evaluations_in_progress UNIQUE (in_progress_key);
+ALTER TABLE student_evaluations ADD CONSTRAINT uk_student_evaluations_idempotency UNIQUE (idempotency_key);
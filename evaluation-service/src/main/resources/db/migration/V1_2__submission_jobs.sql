@@ -0,0 +1,19 @@
+-- Durable queue behind POST /api/v1/submissions/{id}/submit with 'Prefer: respond-async',
+-- drained by SubmissionWorker.
+
+CREATE TABLE submission_jobs (
+    id              BIGINT NOT NULL AUTO_INCREMENT,
+    submission_id   BIGINT NOT NULL,
+    student_id      BIGINT NOT NULL,
+    answers_json    TEXT NOT NULL,
+    status          ENUM ('DONE','FAILED','PENDING','PROCESSING') NOT NULL,
+    attempts        INTEGER NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    claimed_by      VARCHAR(36),
+    claimed_at      DATETIME(6),
+    last_error      VARCHAR(1000),
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_submission_jobs_submission UNIQUE (submission_id)
+) ENGINE=InnoDB;
@@ -0,0 +1,3 @@
+-- scoring weight of a question, NULL = 1 (AnswerKey)
+
+ALTER TABLE evaluation_questions ADD COLUMN weight INTEGER;
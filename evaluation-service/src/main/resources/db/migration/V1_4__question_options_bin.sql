@@ -0,0 +1,4 @@
+-- Options as length-prefixed UTF-8 bytes (OptionList). The rows are converted from options_json
+-- by the Java migration 1.5 (LegacyOptionsMigrator); options_json is kept for rows that did not parse.
+
+ALTER TABLE evaluation_questions ADD COLUMN options_bin BLOB;
@@ -0,0 +1,49 @@
+-- Schema as previously created by hibernate ddl-auto=update, before any versioned migration.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate),
+-- so everything added since lives in V1_1 and later.
+
+CREATE TABLE evaluations (
+    id                 BIGINT NOT NULL AUTO_INCREMENT,
+    title              VARCHAR(255) NOT NULL,
+    prerequisite_level ENUM ('ADVANCED','BEGINNER','INTERMEDIATE') NOT NULL,
+    activity_id        BIGINT NOT NULL,
+    introduction       TEXT,
+    status             ENUM ('DRAFT','PUBLISHED') NOT NULL,
+    created_at         DATETIME(6),
+    updated_at         DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE evaluation_questions (
+    id             BIGINT NOT NULL AUTO_INCREMENT,
+    evaluation_id  BIGINT NOT NULL,
+    label          VARCHAR(255) NOT NULL,
+    correct_answer VARCHAR(255) NOT NULL,
+    position       INTEGER NOT NULL,
+    options_json   TEXT,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE student_evaluations (
+    id                 BIGINT NOT NULL AUTO_INCREMENT,
+    evaluation_id      BIGINT NOT NULL,
+    activity_id        BIGINT,
+    prerequisite_level ENUM ('ADVANCED','BEGINNER','INTERMEDIATE'),
+    student_id         BIGINT,
+    student_full_name  VARCHAR(255),
+    student_level      VARCHAR(255),
+    status             ENUM ('IN_PROGRESS','SUBMITTED'),
+    score              INTEGER,
+    started_at         DATETIME(6),
+    submitted_at       DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE student_answers (
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    submission_id BIGINT NOT NULL,
+    question_id   BIGINT NOT NULL,
+    chosen_answer VARCHAR(255) NOT NULL,
+    correct       BIT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
@@ -0,0 +1,26 @@
+-- Composite indexes matching the per-request lookups (equality columns first, then the ORDER BY column).
+
+-- findByEvaluationIdOrderByPositionAsc
+CREATE INDEX idx_questions_evaluation_position ON evaluation_questions (evaluation_id, position);
+
+-- findByStudentIdOrderByStartedAtDesc
+CREATE INDEX idx_submissions_student_started ON student_evaluations (student_id, started_at);
+
+-- findTopByEvaluationIdAndStudentIdAndStatusOrderByStartedAtDesc
+CREATE INDEX idx_submissions_eval_student_status ON student_evaluations (evaluation_id, student_id, status, started_at);
+
+-- findByEvaluationIdOrderByStartedAtDesc, bulk delete by evaluation
+CREATE INDEX idx_submissions_eval_started ON student_evaluations (evaluation_id, started_at);
+
+-- rescore keyset walk: evaluation_id = ? AND status = ? AND id > ? ORDER BY id
+CREATE INDEX idx_submissions_eval_status_id ON student_evaluations (evaluation_id, status, id);
+
+-- findBySubmissionIdOrderByQuestionIdAsc
+CREATE INDEX idx_answers_submission_question ON student_answers (submission_id, question_id);
+
+-- findByStatusOrderByIdDesc (published catalogue)
+CREATE INDEX idx_evaluations_status_id ON evaluations (status, id);
+
+-- submission worker polling
+CREATE INDEX idx_jobs_status_next_attempt ON submission_jobs (status, next_attempt_at);
+CREATE INDEX idx_jobs_claimed_by_status ON submission_jobs (claimed_by, status);
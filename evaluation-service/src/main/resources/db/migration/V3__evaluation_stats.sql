@@ -0,0 +1,57 @@
+-- Running aggregates per evaluation, maintained by EvaluationService.submit and RescoreService.
+-- Scores are 0..100; bucket_k counts scores in [10k, 10k+9], bucket_9 includes 100.
+
+CREATE TABLE evaluation_stats (
+    evaluation_id BIGINT NOT NULL,
+    submissions   BIGINT NOT NULL DEFAULT 0,
+    score_sum     BIGINT NOT NULL DEFAULT 0,
+    score_sum_sq  BIGINT NOT NULL DEFAULT 0,
+    bucket_0      BIGINT NOT NULL DEFAULT 0,
+    bucket_1      BIGINT NOT NULL DEFAULT 0,
+    bucket_2      BIGINT NOT NULL DEFAULT 0,
+    bucket_3      BIGINT NOT NULL DEFAULT 0,
+    bucket_4      BIGINT NOT NULL DEFAULT 0,
+    bucket_5      BIGINT NOT NULL DEFAULT 0,
+    bucket_6      BIGINT NOT NULL DEFAULT 0,
+    bucket_7      BIGINT NOT NULL DEFAULT 0,
+    bucket_8      BIGINT NOT NULL DEFAULT 0,
+    bucket_9      BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (evaluation_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE evaluation_question_stats (
+    evaluation_id BIGINT NOT NULL,
+    question_id   BIGINT NOT NULL,
+    attempts      BIGINT NOT NULL DEFAULT 0,
+    answered      BIGINT NOT NULL DEFAULT 0,
+    correct       BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (evaluation_id, question_id)
+) ENGINE=InnoDB;
+
+-- backfill from the submissions already there
+INSERT INTO evaluation_stats (evaluation_id, submissions, score_sum, score_sum_sq,
+                              bucket_0, bucket_1, bucket_2, bucket_3, bucket_4,
+                              bucket_5, bucket_6, bucket_7, bucket_8, bucket_9)
+SELECT evaluation_id, COUNT(*), SUM(score), SUM(score * score),
+       SUM(CASE WHEN score < 10 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN score >= 10 AND score < 20 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN score >= 20 AND score < 30 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN score >= 30 AND score < 40 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN score >= 40 AND score < 50 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN score >= 50 AND score < 60 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN score >= 60 AND score < 70 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN score >= 70 AND score < 80 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN score >= 80 AND score < 90 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN score >= 90 THEN 1 ELSE 0 END)
+FROM student_evaluations
+WHERE status = 'SUBMITTED' AND score IS NOT NULL
+GROUP BY evaluation_id;
+
+INSERT INTO evaluation_question_stats (evaluation_id, question_id, attempts, answered, correct)
+SELECT s.evaluation_id, a.question_id, COUNT(*),
+       SUM(CASE WHEN a.chosen_answer <> '' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN a.correct THEN 1 ELSE 0 END)
+FROM student_answers a
+JOIN student_evaluations s ON s.id = a.submission_id
+WHERE s.status = 'SUBMITTED' AND s.score IS NOT NULL
+GROUP BY s.evaluation_id, a.question_id;
@@ -0,0 +1,9 @@
+-- Last change of a submission row (start, submit, re-scoring), maintained by Hibernate (@UpdateTimestamp)
+-- and by the bulk re-scoring statement. Read by GET /api/v1/submissions?changedSince=... (incremental dashboards).
+
+ALTER TABLE student_evaluations ADD COLUMN updated_at DATETIME(6);
+
+UPDATE student_evaluations SET updated_at = COALESCE(submitted_at, started_at);
+
+-- findRowsChangedSince
+CREATE INDEX idx_submissions_updated_id ON student_evaluations (updated_at, id);
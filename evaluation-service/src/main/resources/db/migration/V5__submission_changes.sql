@@ -0,0 +1,15 @@
+-- Outbox of submission changes, written in the same transaction as the change itself
+-- (start, submit, re-scoring, deletion of the evaluation). Read in seq order by
+-- GET /api/v1/submissions/changes?since=<seq> so downstream services follow changes instead of re-reading everything.
+
+CREATE TABLE submission_changes (
+    seq           BIGINT NOT NULL AUTO_INCREMENT,
+    submission_id BIGINT NOT NULL,
+    evaluation_id BIGINT NOT NULL,
+    change_type   VARCHAR(16) NOT NULL,
+    changed_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (seq)
+) ENGINE=InnoDB;
+
+-- retention pruning
+CREATE INDEX idx_submission_changes_changed_at ON submission_changes (changed_at);
@@ -0,0 +1,10 @@
+-- Exact number of submissions scoring >= evaluation.stats.pass-score (the 10-point buckets cannot give it
+-- for a pass score like 55). Maintained by EvaluationStatsRepository on submit and re-scoring.
+
+ALTER TABLE evaluation_stats ADD COLUMN passed BIGINT NOT NULL DEFAULT 0;
+
+UPDATE evaluation_stats
+SET passed = (SELECT COUNT(*)
+              FROM student_evaluations s
+              WHERE s.evaluation_id = evaluation_stats.evaluation_id
+                AND s.status = 'SUBMITTED' AND s.score >= ${pass_score});
@@ -0,0 +1,14 @@
+-- seq of submission_changes is assigned at commit time instead of by AUTO_INCREMENT: each writing transaction
+-- reserves its block from this single row as its last statement and holds the row lock until it commits.
+-- seq order is then commit order, and a rolled-back transaction gives its block back (no gaps for readers to skip).
+
+CREATE TABLE submission_change_sequence (
+    id       TINYINT NOT NULL,
+    last_seq BIGINT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+INSERT INTO submission_change_sequence (id, last_seq)
+SELECT 1, COALESCE(MAX(seq), 0) FROM submission_changes;
+
+ALTER TABLE submission_changes MODIFY seq BIGINT NOT NULL;
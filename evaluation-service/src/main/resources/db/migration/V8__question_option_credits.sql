@@ -0,0 +1,4 @@
+-- Partial credit: one byte per option (options order), the percent of the question's weight earned by choosing
+-- that option. NULL = all-or-nothing; the correct option always earns the full weight (AnswerKey).
+
+ALTER TABLE evaluation_questions ADD COLUMN option_credits VARBINARY(127);
@@ -0,0 +1,170 @@
+package com.example.evaluationservice.cache;
+
+import com.example.evaluationservice.common.BadRequestException;
+import com.example.evaluationservice.domain.PrerequisiteLevel;
+import com.example.evaluationservice.dto.*;
+import com.example.evaluationservice.service.EvaluationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The cache on its own (size bound, shared loads) and behind EvaluationService (invalidation when a
+ * published evaluation is edited or unpublished).
+ */
+@SpringBootTest
+class PublishedEvaluationCacheTest {
+
+    private static final int JSON_BYTES = 100;
+    private static final long WEIGHT = snapshot(0L).weight();
+
+    @Autowired private EvaluationService service;
+    @Autowired private JdbcTemplate jdbc;
+
+    @Test
+    void evictsLeastRecentlyUsedBySize() {
+        PublishedEvaluationCache cache = new PublishedEvaluationCache(new SimpleMeterRegistry(), 3 * WEIGHT);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (long id = 1; id <= 3; id++) load(cache, id, loads);
+        load(cache, 1L, loads); // hit: 1 becomes the most recently used
+        assertEquals(3, loads.get());
+
+        load(cache, 4L, loads); // over the bound: 2 is the least recently used
+        assertEquals(3, cache.size());
+        assertEquals(3 * WEIGHT, cache.weightBytes());
+
+        load(cache, 1L, loads);
+        load(cache, 3L, loads);
+        assertEquals(4, loads.get());
+        load(cache, 2L, loads);
+        assertEquals(5, loads.get());
+
+        // larger than the whole cache: served but never kept
+        PublishedEvaluationCache tiny = new PublishedEvaluationCache(new SimpleMeterRegistry(), WEIGHT - 1);
+        load(tiny, 1L, loads);
+        assertEquals(0, tiny.size());
+        assertEquals(0, tiny.weightBytes());
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        PublishedEvaluationCache cache = new PublishedEvaluationCache(new SimpleMeterRegistry(), 1 << 20);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<PublishedEvaluationSnapshot>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(pool.submit(() -> cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    loaderStarted.countDown();
+                    try {
+                        assertTrue(release.await(10, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return snapshot(1L);
+                })));
+            }
+            assertTrue(loaderStarted.await(10, TimeUnit.SECONDS));
+            Thread.sleep(200); // the other callers reach get() and wait on the load in flight
+            release.countDown();
+
+            PublishedEvaluationSnapshot first = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<PublishedEvaluationSnapshot> r : results) assertSame(first, r.get(10, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void loadRacingAnInvalidationIsNotCached() {
+        PublishedEvaluationCache cache = new PublishedEvaluationCache(new SimpleMeterRegistry(), 1 << 20);
+
+        PublishedEvaluationSnapshot loaded = cache.get(1L, () -> {
+            cache.invalidate(1L); // the evaluation is edited while its snapshot is being built
+            return snapshot(1L);
+        });
+
+        assertNotNull(loaded);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void editAndUnpublishInvalidateThePublishedSnapshot() {
+        Long evaluationId = service.createEvaluation(EvaluationCreateRequest.builder()
+                .title("Before")
+                .prerequisiteLevel(PrerequisiteLevel.BEGINNER)
+                .activityId(1L)
+                .build()).getId();
+        try {
+            addQuestion(evaluationId, "Q1");
+            service.publishOrUnpublish(evaluationId, true);
+            assertEquals("Before", start(evaluationId, 1L).getTitle());
+
+            // written behind the service's back: still served from the cached snapshot
+            jdbc.update("UPDATE evaluations SET title = 'Behind' WHERE id = ?", evaluationId);
+            assertEquals("Before", start(evaluationId, 2L).getTitle());
+
+            service.updateEvaluation(evaluationId, EvaluationUpdateRequest.builder()
+                    .title("After")
+                    .prerequisiteLevel(PrerequisiteLevel.BEGINNER)
+                    .activityId(1L)
+                    .build());
+            assertEquals("After", start(evaluationId, 3L).getTitle());
+
+            // questions change while unpublished; republishing serves the new list
+            service.publishOrUnpublish(evaluationId, false);
+            assertThrows(BadRequestException.class, () -> start(evaluationId, 4L));
+            addQuestion(evaluationId, "Q2");
+            service.publishOrUnpublish(evaluationId, true);
+            String questions = new String(service.listQuestionsStudentJson(evaluationId), StandardCharsets.UTF_8);
+            assertTrue(questions.contains("\"Q2\""), questions);
+        } finally {
+            service.deleteEvaluation(evaluationId);
+        }
+    }
+
+    private static PublishedEvaluationSnapshot snapshot(Long id) {
+        return new PublishedEvaluationSnapshot(id, null, null, 1L, PrerequisiteLevel.BEGINNER, List.of(),
+                new byte[JSON_BYTES], new byte[0], new byte[0]);
+    }
+
+    private static void load(PublishedEvaluationCache cache, Long id, AtomicInteger loads) {
+        cache.get(id, () -> {
+            loads.incrementAndGet();
+            return snapshot(id);
+        });
+    }
+
+    private void addQuestion(Long evaluationId, String label) {
+        service.addQuestion(evaluationId, QuestionCreateRequest.builder()
+                .label(label)
+                .options(List.of("a", "b"))
+                .correctAnswer("a")
+                .build());
+    }
+
+    private StartEvaluationResponse start(Long evaluationId, long studentId) {
+        return service.start(evaluationId, StartEvaluationRequest.builder()
+                .studentId(studentId)
+                .studentFullName("Student " + studentId)
+                .studentLevel("L1")
+                .build());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.evaluationservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.FileSystemResource;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The shipped (MySQL) configuration never turns on Connector/J server-side prepares: neither directly
+ * (useServerPrepStmts) nor through useCursorFetch, which implies them. The tests run on H2 and cannot see it.
+ */
+class ConnectorSettingsTest {
+
+    @Test
+    void serverSidePreparesStayOff() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new FileSystemResource("src/main/resources/application.yml"));
+        Properties props = yaml.getObject();
+        assertNotNull(props);
+
+        String url = props.getProperty("spring.datasource.url");
+        assertTrue(url.startsWith("jdbc:mysql:"), url);
+        assertFalse(url.contains("useCursorFetch"), url);
+        assertFalse(url.contains("useServerPrepStmts"), url);
+        assertNull(props.getProperty("spring.datasource.hikari.data-source-properties.useServerPrepStmts"));
+        assertNull(props.getProperty("spring.datasource.hikari.data-source-properties.useCursorFetch"));
+        assertEquals("true", props.getProperty("spring.datasource.hikari.data-source-properties.cachePrepStmts"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.evaluationservice.config;
+
+import com.example.evaluationservice.common.BadRequestException;
+import com.example.evaluationservice.domain.PrerequisiteLevel;
+import com.example.evaluationservice.dto.EvaluationCreateRequest;
+import com.example.evaluationservice.dto.EvaluationResponse;
+import com.example.evaluationservice.dto.QuestionCreateRequest;
+import com.example.evaluationservice.repository.EvaluationRepository;
+import com.example.evaluationservice.service.EvaluationService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "evaluation.datasource.replica.url=jdbc:h2:mem:sys_evaluations_replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "evaluation.datasource.replica.username=sa",
+        "evaluation.datasource.replica.driver-class-name=org.h2.Driver"
+})
+class ReadReplicaRoutingTest {
+
+    @Autowired private EvaluationService service;
+    @Autowired private EvaluationRepository evaluationRepo;
+    @Autowired @Qualifier("primaryDataSource") private HikariDataSource primary;
+    @Autowired @Qualifier("replicaDataSource") private HikariDataSource replica;
+    @Autowired private Flyway flyway;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void seedReplicaOnly() {
+        // stand-in for replication: same schema, one row the primary does not have
+        Flyway.configure().configuration(flyway.getConfiguration()).dataSource(replica).load().migrate();
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.update("DELETE FROM evaluations WHERE title = 'replica-only'");
+        replicaJdbc.update("INSERT INTO evaluations (title, prerequisite_level, activity_id, status) VALUES ('replica-only', 'BEGINNER', 1, 'DRAFT')");
+    }
+
+    @Test
+    void readOnlyServiceTransactionsReadTheReplica() {
+        assertTrue(service.listEvaluations().stream().anyMatch(e -> e.getTitle().equals("replica-only")));
+    }
+
+    @Test
+    void writesAndRepositoryDefaultsUseThePrimary() {
+        EvaluationResponse created = service.createEvaluation(
+                new EvaluationCreateRequest("primary-write", PrerequisiteLevel.BEGINNER, 1L, null));
+
+        assertEquals(1, new JdbcTemplate(primary).queryForObject(
+                "SELECT COUNT(*) FROM evaluations WHERE id = ? AND title = 'primary-write'", Integer.class, created.getId()));
+        // finder outside a service transaction: read-your-writes on the primary
+        assertTrue(evaluationRepo.findById(created.getId()).isPresent());
+        assertTrue(evaluationRepo.findAll().stream().noneMatch(e -> e.getTitle().equals("replica-only")));
+    }
+
+    @Test
+    void publishedSnapshotsAreLoadedFromThePrimary() {
+        Long id = service.createEvaluation(
+                new EvaluationCreateRequest("primary-snapshot", PrerequisiteLevel.BEGINNER, 1L, null)).getId();
+        try {
+            service.addQuestion(id, QuestionCreateRequest.builder()
+                    .label("Q-primary")
+                    .options(List.of("a", "b"))
+                    .correctAnswer("a")
+                    .build());
+            service.publishOrUnpublish(id, true); // invalidates: the next read reloads the snapshot
+
+            double replicaReads = replicaConnections();
+            // read-only service transaction, but the snapshot it loads is cached: it must come from the primary
+            // (the replica does not have this evaluation at all)
+            String questions = new String(service.listQuestionsStudentJson(id), StandardCharsets.UTF_8);
+            assertTrue(questions.contains("\"Q-primary\""), questions);
+            assertEquals(replicaReads, replicaConnections());
+
+            service.publishOrUnpublish(id, false);
+            assertThrows(BadRequestException.class, () -> service.listQuestionsStudentJson(id));
+            assertEquals(replicaReads, replicaConnections());
+        } finally {
+            service.deleteEvaluation(id);
+        }
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsDown() throws Exception {
+        JdbcDataSource down = new JdbcDataSource();
+        down.setURL("jdbc:h2:mem:no_such_replica;IFEXISTS=TRUE");
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(primary, down, meters, 60_000);
+        routing.afterPropertiesSet();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            for (int i = 0; i < 3; i++) {
+                try (Connection c = routing.getConnection()) {
+                    assertTrue(c.isValid(1));
+                }
+            }
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        // one failed attempt, then the replica is skipped until retry-after
+        assertEquals(1, meters.counter("evaluation.datasource.replica.fallbacks").count());
+        assertEquals(3, meters.counter("evaluation.datasource.connections", "pool", "primary").count());
+    }
+
+    private double replicaConnections() {
+        return meterRegistry.counter("evaluation.datasource.connections", "pool", "replica").count();
+    }
+}
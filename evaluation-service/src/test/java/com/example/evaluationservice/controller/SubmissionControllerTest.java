@@ -0,0 +1,150 @@
+package com.example.evaluationservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** Keyset pages (/page) and the NDJSON export (/export) walked end to end over seeded rows. */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SubmissionControllerTest {
+
+    // two evaluations, submissions alternating between them, three students
+    private static final long EVAL_A = 7_001, EVAL_B = 7_002;
+    private static final long FIRST_ID = 700_001, LAST_ID = 700_024;
+
+    @Autowired private MockMvc mvc;
+    @Autowired private JdbcTemplate jdbc;
+    @Autowired private ObjectMapper mapper;
+
+    @BeforeEach
+    void seed() {
+        cleanUp();
+        jdbc.update("INSERT INTO evaluations (id, title, prerequisite_level, activity_id, status) VALUES (?, 'A', 'BEGINNER', 1, 'PUBLISHED')", EVAL_A);
+        jdbc.update("INSERT INTO evaluations (id, title, prerequisite_level, activity_id, status) VALUES (?, 'B', 'BEGINNER', 2, 'PUBLISHED')", EVAL_B);
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> subs = new ArrayList<>();
+        for (long id = FIRST_ID; id <= LAST_ID; id++) {
+            subs.add(new Object[]{id, id % 2 == 1 ? EVAL_A : EVAL_B, id % 3, "Student " + id % 3, "SUBMITTED", 50, now});
+        }
+        jdbc.batchUpdate("INSERT INTO student_evaluations (id, evaluation_id, student_id, student_full_name, status, score, started_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", subs);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM student_evaluations WHERE id BETWEEN ? AND ?", FIRST_ID, LAST_ID);
+        jdbc.update("DELETE FROM evaluations WHERE id IN (?, ?)", EVAL_A, EVAL_B);
+    }
+
+    @Test
+    void pagesWalkEveryRowOnceInIdOrder() throws Exception {
+        // 12 rows of EVAL_A in pages of 4: the third page is full but is the last one
+        List<JsonNode> pages = walk(() -> get("/api/v1/submissions/page").param("evaluationId", String.valueOf(EVAL_A)), 4);
+
+        assertEquals(3, pages.size());
+        assertEquals(ids(FIRST_ID, 2, 12), pageIds(pages));
+        for (int i = 0; i < 2; i++) {
+            JsonNode page = pages.get(i);
+            assertTrue(page.get("hasMore").asBoolean());
+            assertEquals(page.get("items").get(3).get("submissionId").asLong(), page.get("nextCursor").asLong());
+        }
+        assertFalse(pages.get(2).get("hasMore").asBoolean());
+        assertTrue(pages.get(2).get("nextCursor").isNull());
+        assertEquals("A", pages.get(0).get("items").get(0).get("evaluationTitle").asText());
+    }
+
+    @Test
+    void cursorAndFiltersNarrowThePage() throws Exception {
+        // EVAL_B (even ids) of student 1
+        List<Long> expected = LongStream.rangeClosed(FIRST_ID, LAST_ID)
+                .filter(id -> id % 2 == 0 && id % 3 == 1).boxed().toList();
+        List<JsonNode> pages = walk(() -> get("/api/v1/submissions/page")
+                .param("evaluationId", String.valueOf(EVAL_B))
+                .param("studentId", "1"), 3);
+        assertEquals(2, pages.size());
+        assertEquals(expected, pageIds(pages));
+
+        // after= is exclusive: resuming from the first row returns the rest
+        JsonNode rest = page(get("/api/v1/submissions/page")
+                .param("evaluationId", String.valueOf(EVAL_B))
+                .param("studentId", "1")
+                .param("after", String.valueOf(expected.get(0))), 100);
+        assertEquals(expected.subList(1, expected.size()), pageIds(List.of(rest)));
+        assertFalse(rest.get("hasMore").asBoolean());
+
+        mvc.perform(get("/api/v1/submissions/page").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportStreamsTheSameRowsAsThePages() throws Exception {
+        String body = mvc.perform(get("/api/v1/submissions/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<Long> exported = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            exported.add(mapper.readTree(line).get("submissionId").asLong()); // one complete JSON object per line
+        }
+        assertTrue(body.endsWith("\n"));
+
+        List<Long> paged = pageIds(walk(() -> get("/api/v1/submissions/page"), 7));
+        assertEquals(paged, exported);
+        assertTrue(exported.containsAll(ids(FIRST_ID, 1, 24)));
+    }
+
+    // request: a new builder per page (params accumulate on a builder)
+    private List<JsonNode> walk(Supplier<MockHttpServletRequestBuilder> request, int limit) throws Exception {
+        List<JsonNode> pages = new ArrayList<>();
+        JsonNode page = page(request.get(), limit);
+        pages.add(page);
+        while (page.get("hasMore").asBoolean()) {
+            assertTrue(pages.size() < 10_000, "pagination does not end");
+            page = page(request.get().param("after", page.get("nextCursor").asText()), limit);
+            pages.add(page);
+        }
+        return pages;
+    }
+
+    private JsonNode page(MockHttpServletRequestBuilder request, int limit) throws Exception {
+        String json = mvc.perform(request.param("limit", String.valueOf(limit)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode page = mapper.readTree(json);
+        assertTrue(page.get("items").size() <= limit);
+        return page;
+    }
+
+    private static List<Long> pageIds(List<JsonNode> pages) {
+        List<Long> ids = new ArrayList<>();
+        pages.forEach(p -> p.get("items").forEach(row -> ids.add(row.get("submissionId").asLong())));
+        return ids;
+    }
+
+    private static List<Long> ids(long first, long step, int count) {
+        return LongStream.iterate(first, id -> id + step).limit(count).boxed().toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.evaluationservice.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionListTest {
+
+    @Test
+    void roundTripsOptions() {
+        List<String> options = new ArrayList<>(List.of("a", "", "élève ✅", "x".repeat(300)));
+        OptionList list = OptionList.of(options);
+
+        OptionList loaded = OptionList.wrap(list.encoded().clone());
+
+        assertEquals(options, loaded);
+        assertEquals(options.hashCode(), loaded.hashCode());
+        assertEquals(4, loaded.size());
+        assertSame(loaded.get(2), loaded.get(2));
+        assertEquals(0, OptionList.wrap(OptionList.EMPTY.encoded()).size());
+    }
+
+    @Test
+    void reusesEncodingOfLoadedList() {
+        OptionList loaded = OptionList.wrap(OptionList.of(List.of("a", "b")).encoded());
+        assertSame(loaded.encoded(), new OptionListConverter().convertToDatabaseColumn(loaded));
+    }
+
+    @Test
+    void isImmutable() {
+        OptionList list = OptionList.of(List.of("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "c"));
+    }
+
+    @Test
+    void rejectsCorruptData() {
+        byte[] bytes = OptionList.of(List.of("abc")).encoded();
+        assertThrows(IllegalArgumentException.class, () -> OptionList.wrap(new byte[]{9}));
+        assertThrows(IllegalArgumentException.class, () -> OptionList.wrap(java.util.Arrays.copyOf(bytes, bytes.length - 1)));
+        assertThrows(IllegalArgumentException.class, () -> OptionList.wrap(java.util.Arrays.copyOf(bytes, bytes.length + 1)));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.evaluationservice.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Upgrade of a database created by ddl-auto=update: the pre-Flyway tables and rows exist,
+ * Flyway baselines at V1 and runs everything after it, including the options_bin backfill.
+ */
+class SchemaUpgradeTest {
+
+    private final DataSource ds = new DriverManagerDataSource(
+            "jdbc:h2:mem:schema_upgrade;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbc = new JdbcTemplate(ds);
+
+    @Test
+    void upgradesBaselinedDatabase() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline.sql")).execute(ds);
+
+        jdbc.update("INSERT INTO evaluation_questions (id, evaluation_id, label, correct_answer, position, options_json)"
+                + " VALUES (1, 1, 'Q1', 'b', 1, '[\"a\",\"b\"]'), (2, 1, 'Q2', 'x', 2, 'not json')");
+        jdbc.update("INSERT INTO student_evaluations (id, evaluation_id, student_id, status, score, started_at)"
+                + " VALUES (1, 1, 7, 'IN_PROGRESS', NULL, TIMESTAMP '2025-01-01 10:00:00'),"
+                + " (2, 1, 7, 'IN_PROGRESS', NULL, TIMESTAMP '2025-01-02 10:00:00'),"
+                + " (3, 1, 8, 'SUBMITTED', 50, TIMESTAMP '2025-01-02 10:00:00'),"
+                + " (4, 1, 9, 'SUBMITTED', 60, TIMESTAMP '2025-01-02 10:00:00'),"
+                + " (5, 1, 10, 'SUBMITTED', 100, TIMESTAMP '2025-01-02 10:00:00')");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource(ds)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .placeholders(Map.of("pass_score", "55"))
+                .javaMigrations(new LegacyOptionsMigrator())
+                .load();
+        flyway.migrate();
+
+        assertEquals("1", flyway.info().applied()[0].getVersion().getVersion());
+
+        // options: converted, valid JSON dropped, unparseable JSON kept for inspection
+        byte[] q1 = jdbc.queryForObject("SELECT options_bin FROM evaluation_questions WHERE id = 1", byte[].class);
+        assertEquals(List.of("a", "b"), OptionList.wrap(q1));
+        assertNull(jdbc.queryForObject("SELECT options_json FROM evaluation_questions WHERE id = 1", String.class));
+        byte[] q2 = jdbc.queryForObject("SELECT options_bin FROM evaluation_questions WHERE id = 2", byte[].class);
+        assertEquals(0, OptionList.wrap(q2).size());
+        assertEquals("not json", jdbc.queryForObject("SELECT options_json FROM evaluation_questions WHERE id = 2", String.class));
+
+        // only the latest open attempt holds the in-progress slot
+        Map<Long, String> keys = new HashMap<>();
+        jdbc.query("SELECT id, in_progress_key FROM student_evaluations",
+                rs -> { keys.put(rs.getLong(1), rs.getString(2)); });
+        assertNull(keys.get(1L));
+        assertEquals("1:7", keys.get(2L));
+        assertNull(keys.get(3L));
+
+        // series tables exist and the stats backfill saw the submitted rows
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM submission_jobs", Integer.class));
+        Map<String, Object> stats = jdbc.queryForMap("SELECT * FROM evaluation_stats WHERE evaluation_id = 1");
+        assertEquals(3L, ((Number) stats.get("SUBMISSIONS")).longValue());
+        assertEquals(210L, ((Number) stats.get("SCORE_SUM")).longValue());
+        assertEquals(16_100L, ((Number) stats.get("SCORE_SUM_SQ")).longValue());
+        assertEquals(1L, ((Number) stats.get("BUCKET_5")).longValue());
+        assertEquals(1L, ((Number) stats.get("BUCKET_6")).longValue());
+        assertEquals(1L, ((Number) stats.get("BUCKET_9")).longValue());
+        assertEquals(2L, ((Number) stats.get("PASSED")).longValue()); // 60 and 100, not 50
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.evaluationservice.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs EXPLAIN on the SQL behind the per-request lookups against the Flyway-migrated schema
+ * and checks the planner picks the composite index added for each of them.
+ */
+@SpringBootTest
+class LookupIndexPlanTest {
+
+    @Autowired private JdbcTemplate jdbc;
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "SELECT * FROM evaluation_questions WHERE evaluation_id = 1 ORDER BY position"
+                    + " | idx_questions_evaluation_position",
+            "SELECT * FROM student_evaluations WHERE student_id = 1 ORDER BY started_at DESC"
+                    + " | idx_submissions_student_started",
+            "SELECT * FROM student_evaluations WHERE evaluation_id = 1 AND student_id = 1 AND status = 'IN_PROGRESS' ORDER BY started_at DESC LIMIT 1"
+                    + " | idx_submissions_eval_student_status",
+            "SELECT * FROM student_evaluations WHERE evaluation_id = 1 ORDER BY started_at DESC"
+                    + " | idx_submissions_eval_started",
+            "SELECT id, score FROM student_evaluations WHERE evaluation_id = 1 AND status = 'SUBMITTED' AND id > 0 ORDER BY id LIMIT 500"
+                    + " | idx_submissions_eval_status_id",
+            "SELECT * FROM student_answers WHERE submission_id = 1 ORDER BY question_id"
+                    + " | idx_answers_submission_question",
+            "SELECT * FROM evaluations WHERE status = 'PUBLISHED' ORDER BY id DESC"
+                    + " | idx_evaluations_status_id",
+            "SELECT id FROM submission_jobs WHERE status = 'PENDING' AND next_attempt_at <= CURRENT_TIMESTAMP ORDER BY id"
+                    + " | idx_jobs_status_next_attempt",
+            "SELECT * FROM student_evaluations WHERE updated_at >= TIMESTAMP '2025-01-01 00:00:00' ORDER BY updated_at, id"
+                    + " | idx_submissions_updated_id",
+    })
+    void lookupUsesIndex(String sql, String index) {
+        String plan = String.join("\n", jdbc.queryForList("EXPLAIN " + sql, String.class));
+        assertTrue(plan.toLowerCase().contains(index), () -> "expected " + index + " in plan:\n" + plan);
+    }
+}
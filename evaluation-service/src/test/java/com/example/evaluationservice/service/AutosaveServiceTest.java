@@ -0,0 +1,113 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.common.BadRequestException;
+import com.example.evaluationservice.domain.EvaluationStatus;
+import com.example.evaluationservice.domain.PrerequisiteLevel;
+import com.example.evaluationservice.domain.SubmissionStatus;
+import com.example.evaluationservice.dto.SubmitAnswersRequest;
+import com.example.evaluationservice.dto.SubmitAnswersRequest.AnswerItem;
+import com.example.evaluationservice.entity.Evaluation;
+import com.example.evaluationservice.entity.Question;
+import com.example.evaluationservice.entity.StudentEvaluation;
+import com.example.evaluationservice.repository.EvaluationRepository;
+import com.example.evaluationservice.repository.QuestionRepository;
+import com.example.evaluationservice.repository.StudentEvaluationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest
+class AutosaveServiceTest {
+
+    @Autowired private AutosaveService autosave;
+    @Autowired private EvaluationService service;
+    @Autowired private EvaluationRepository evaluationRepo;
+    @Autowired private QuestionRepository questionRepo;
+    @Autowired private StudentEvaluationRepository submissionRepo;
+    @Autowired private JdbcTemplate jdbc;
+    @MockitoSpyBean private ScoringService scoring;
+
+    private Long submissionId;
+    private Long q1, q2;
+
+    @BeforeEach
+    void seed() {
+        Evaluation e = evaluationRepo.save(Evaluation.builder()
+                .title("Autosave").activityId(1L).prerequisiteLevel(PrerequisiteLevel.BEGINNER)
+                .status(EvaluationStatus.PUBLISHED).build());
+        q1 = questionRepo.save(Question.builder().evaluationId(e.getId()).label("Q1")
+                .options(List.of("a", "b")).correctAnswer("b").position(1).build()).getId();
+        q2 = questionRepo.save(Question.builder().evaluationId(e.getId()).label("Q2")
+                .options(List.of("c", "d")).correctAnswer("d").position(2).build()).getId();
+        submissionId = submissionRepo.save(StudentEvaluation.builder()
+                .evaluationId(e.getId()).studentId(42L).status(SubmissionStatus.IN_PROGRESS)
+                .startedAt(Instant.now()).build()).getId();
+    }
+
+    @Test
+    void savesAreCoalescedUntilFlushAndIncludedInSubmit() {
+        autosave.save(submissionId, request(new AnswerItem(q1, "a")));
+        autosave.save(submissionId, request(new AnswerItem(q1, "b"), new AnswerItem(q2, "c")));
+
+        assertEquals(0, rows(), "saves only touch memory");
+        assertEquals(List.of("b", "c"), autosave.getDraft(submissionId).stream().map(AnswerItem::getChosenAnswer).toList());
+
+        autosave.flush();
+        assertEquals(2, rows(), "one row per question, last value wins");
+        autosave.flush();
+        assertEquals(2, rows());
+
+        autosave.save(submissionId, request(new AnswerItem(q2, "d")));
+
+        // nothing in the submit request: flushed q1 + in-memory q2 are scored
+        assertEquals(100, service.submit(submissionId, request()).getScore());
+        assertEquals(2, rows());
+
+        autosave.flush(); // draft was taken by submit, nothing left to write
+        assertEquals(2, rows());
+        assertThrows(BadRequestException.class, () -> autosave.save(submissionId, request(new AnswerItem(q1, "a"))));
+    }
+
+    @Test
+    void failedSubmitKeepsTheUnflushedDraft() {
+        autosave.save(submissionId, request(new AnswerItem(q1, "b"), new AnswerItem(q2, "d")));
+        doThrow(new IllegalStateException("scoring failed")).doCallRealMethod().when(scoring).score(any(), any());
+
+        assertThrows(IllegalStateException.class, () -> service.submit(submissionId, request()));
+
+        // rolled back: still in progress, the answers are still in memory
+        assertEquals(SubmissionStatus.IN_PROGRESS, submissionRepo.findById(submissionId).orElseThrow().getStatus());
+        assertEquals(List.of("b", "d"), autosave.getDraft(submissionId).stream().map(AnswerItem::getChosenAnswer).toList());
+
+        assertEquals(100, service.submit(submissionId, request()).getScore());
+        autosave.flush(); // committed: the draft is gone
+        assertEquals(List.of(true, true),
+                jdbc.queryForList("SELECT correct FROM student_answers WHERE submission_id = ? ORDER BY question_id",
+                        Boolean.class, submissionId));
+    }
+
+    @Test
+    void rejectsAnotherStudent() {
+        SubmitAnswersRequest req = request(new AnswerItem(q1, "a"));
+        req.setStudentId(7L);
+        assertThrows(BadRequestException.class, () -> autosave.save(submissionId, req));
+    }
+
+    private static SubmitAnswersRequest request(AnswerItem... items) {
+        return new SubmitAnswersRequest(42L, List.of(items));
+    }
+
+    private long rows() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM student_answers WHERE submission_id = ?", Long.class, submissionId);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.evaluationservice.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class EvaluationDeleteTest {
+
+    private static final long DELETED = 9001, KEPT = 9002;
+    private static final int SUBMISSIONS = 2_000;
+    private static final int ANSWERS = 5;
+
+    @Autowired private EvaluationService service;
+    @Autowired private JdbcTemplate jdbc;
+    @Autowired private EntityManagerFactory emf;
+
+    @BeforeEach
+    void seed() {
+        jdbc.batchUpdate("INSERT INTO evaluations (id, title, prerequisite_level, activity_id, status) VALUES (?, ?, 'BEGINNER', 1, 'DRAFT')",
+                List.of(new Object[]{DELETED, "Deleted"}, new Object[]{KEPT, "Kept"}));
+
+        List<Object[]> questions = new ArrayList<>();
+        for (int p = 1; p <= ANSWERS; p++) {
+            questions.add(new Object[]{DELETED, p});
+            questions.add(new Object[]{KEPT, p});
+        }
+        jdbc.batchUpdate("INSERT INTO evaluation_questions (evaluation_id, label, correct_answer, position) VALUES (?, 'Q', 'a', ?)", questions);
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> subs = new ArrayList<>();
+        List<Object[]> answers = new ArrayList<>();
+        List<Object[]> jobs = new ArrayList<>();
+        for (long id = 900_001; id <= 900_000 + SUBMISSIONS + 10; id++) {
+            long evaluationId = id <= 900_000 + SUBMISSIONS ? DELETED : KEPT;
+            subs.add(new Object[]{id, evaluationId, id, now});
+            for (long q = 1; q <= ANSWERS; q++) answers.add(new Object[]{id, q});
+            if (id % 10 == 0) jobs.add(new Object[]{id, now});
+        }
+        jdbc.batchUpdate("INSERT INTO student_evaluations (id, evaluation_id, student_id, student_full_name, student_level, status, score, started_at) "
+                + "VALUES (?, ?, ?, 'S', 'L1', 'SUBMITTED', 0, ?)", subs);
+        jdbc.batchUpdate("INSERT INTO student_answers (submission_id, question_id, chosen_answer, correct) VALUES (?, ?, 'a', true)", answers);
+        jdbc.batchUpdate("INSERT INTO submission_jobs (submission_id, student_id, answers_json, status, attempts, next_attempt_at) "
+                + "VALUES (?, 1, '[]', 'DONE', 1, ?)", jobs);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM student_answers WHERE submission_id > 900000");
+        jdbc.update("DELETE FROM submission_jobs WHERE submission_id > 900000");
+        jdbc.update("DELETE FROM student_evaluations WHERE id > 900000");
+        jdbc.update("DELETE FROM evaluation_questions WHERE evaluation_id IN (?, ?)", DELETED, KEPT);
+        jdbc.update("DELETE FROM evaluations WHERE id IN (?, ?)", DELETED, KEPT);
+    }
+
+    @Test
+    void deleteIsSetBasedAndLeavesOtherEvaluationsAlone() {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        service.deleteEvaluation(DELETED);
+
+        // exists + 4 bulk deletes + load/delete of the evaluation row, independent of SUBMISSIONS
+        assertTrue(stats.getPrepareStatementCount() <= 8, "statements: " + stats.getPrepareStatementCount());
+
+        assertEquals(0, count("SELECT COUNT(*) FROM student_evaluations WHERE evaluation_id = ?", DELETED));
+        assertEquals(0, count("SELECT COUNT(*) FROM student_answers WHERE submission_id BETWEEN 900001 AND ?", 900_000 + SUBMISSIONS));
+        assertEquals(0, count("SELECT COUNT(*) FROM evaluation_questions WHERE evaluation_id = ?", DELETED));
+        assertEquals(0, count("SELECT COUNT(*) FROM evaluations WHERE id = ?", DELETED));
+
+        assertEquals(10, count("SELECT COUNT(*) FROM student_evaluations WHERE evaluation_id = ?", KEPT));
+        assertEquals(10 * ANSWERS, count("SELECT COUNT(*) FROM student_answers WHERE submission_id > ?", 900_000 + SUBMISSIONS));
+        assertEquals(1, count("SELECT COUNT(*) FROM submission_jobs WHERE submission_id > ?", 900_000 + SUBMISSIONS));
+        assertEquals(ANSWERS, count("SELECT COUNT(*) FROM evaluation_questions WHERE evaluation_id = ?", KEPT));
+    }
+
+    private long count(String sql, Object arg) {
+        return jdbc.queryForObject(sql, Long.class, arg);
+    }
+}
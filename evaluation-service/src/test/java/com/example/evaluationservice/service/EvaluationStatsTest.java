@@ -0,0 +1,177 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.common.BadRequestException;
+import com.example.evaluationservice.domain.PrerequisiteLevel;
+import com.example.evaluationservice.dto.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * evaluation_stats maintained by submit(): the first submit inserts the row, later ones add to it,
+ * and the pass rate counts scores against the exact pass score (55 here, inside the 50-59 bucket).
+ */
+@SpringBootTest(properties = "evaluation.stats.pass-score=55")
+@AutoConfigureMockMvc
+class EvaluationStatsTest {
+
+    @Autowired private MockMvc mvc;
+    @Autowired private EvaluationService service;
+    @Autowired private EvaluationStatsService stats;
+
+    private Long evaluationId;
+    private Long q1, q2;
+
+    @BeforeEach
+    void publishedEvaluation() {
+        evaluationId = service.createEvaluation(EvaluationCreateRequest.builder()
+                .title("Stats")
+                .prerequisiteLevel(PrerequisiteLevel.BEGINNER)
+                .activityId(1L)
+                .build()).getId();
+        q1 = addQuestion("Q1", "a", "b");
+        q2 = addQuestion("Q2", "c", "d");
+        service.publishOrUnpublish(evaluationId, true);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        service.deleteEvaluation(evaluationId);
+    }
+
+    @Test
+    void submitsAreAggregatedWithExactPassRate() throws Exception {
+        mvc.perform(get("/api/v1/evaluations/{id}/stats", evaluationId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.submissions").value(0))
+                .andExpect(jsonPath("$.passRate").doesNotExist());
+
+        submit(1L, "a", "c"); // 100
+        assertEquals(1, stats.get(evaluationId).getSubmissions());
+
+        submit(2L, "a", "d"); // 50
+        submit(3L, "b", "c"); // 50
+        submit(4L, "b", "");  // 0
+
+        mvc.perform(get("/api/v1/evaluations/{id}/stats", evaluationId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.submissions").value(4))
+                .andExpect(jsonPath("$.averageScore").value(50.0))
+                .andExpect(jsonPath("$.standardDeviation", closeTo(35.355, 0.001)))
+                .andExpect(jsonPath("$.passScore").value(55))
+                .andExpect(jsonPath("$.passRate").value(0.25)) // the 50s are in the pass bucket but below 55
+                .andExpect(jsonPath("$.histogram[0].count").value(1))
+                .andExpect(jsonPath("$.histogram[5].count").value(2))
+                .andExpect(jsonPath("$.histogram[9].count").value(1))
+                .andExpect(jsonPath("$.questions[0].questionId").value(q1))
+                .andExpect(jsonPath("$.questions[0].attempts").value(4))
+                .andExpect(jsonPath("$.questions[0].answered").value(4))
+                .andExpect(jsonPath("$.questions[0].correct").value(2))
+                .andExpect(jsonPath("$.questions[0].difficulty").value(0.5))
+                .andExpect(jsonPath("$.questions[1].answered").value(3))
+                .andExpect(jsonPath("$.questions[1].correct").value(2));
+    }
+
+    @Test
+    void concurrentSubmitsAreAllCounted() throws Exception {
+        List<Long> submissionIds = new ArrayList<>();
+        for (long student = 10; student < 26; student++) submissionIds.add(start(student));
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < submissionIds.size(); i++) {
+                long student = 10 + i;
+                Long submissionId = submissionIds.get(i);
+                futures.add(pool.submit(() -> submit(submissionId, student, "a", student % 2 == 0 ? "c" : "d")));
+            }
+            for (Future<?> f : futures) f.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        EvaluationStatsResponse s = stats.get(evaluationId);
+        assertEquals(16, s.getSubmissions());
+        assertEquals(75.0, s.getAverageScore());
+        assertEquals(0.5, s.getPassRate());
+        assertEquals(16, s.getQuestions().get(0).getCorrect());
+        assertEquals(8, s.getQuestions().get(1).getCorrect());
+    }
+
+    @Test
+    void partialCreditIsStoredAndScored() {
+        service.publishOrUnpublish(evaluationId, false);
+        QuestionProfessorResponse q3 = service.addQuestion(evaluationId, QuestionCreateRequest.builder()
+                .label("Q3")
+                .options(List.of("e", "f", "g"))
+                .correctAnswer("e")
+                .optionCredits(List.of(100, 50, 0))
+                .build());
+        assertEquals(List.of(100, 50, 0), service.listQuestionsProfessor(evaluationId).get(2).getOptionCredits());
+        assertThrows(BadRequestException.class, () -> service.addQuestion(evaluationId, QuestionCreateRequest.builder()
+                .label("Q4")
+                .options(List.of("h", "i"))
+                .correctAnswer("h")
+                .optionCredits(List.of(50, 50))
+                .build()));
+        service.publishOrUnpublish(evaluationId, true);
+
+        // Q1 right, Q2 wrong, Q3 half credit: 1.5 of 3 points
+        SubmitAnswersResponse r = service.submit(start(30L), SubmitAnswersRequest.builder()
+                .studentId(30L)
+                .answers(List.of(
+                        SubmitAnswersRequest.AnswerItem.builder().questionId(q1).chosenAnswer("a").build(),
+                        SubmitAnswersRequest.AnswerItem.builder().questionId(q2).chosenAnswer("d").build(),
+                        SubmitAnswersRequest.AnswerItem.builder().questionId(q3.getId()).chosenAnswer("f").build()))
+                .build());
+        assertEquals(50, r.getScore());
+        assertEquals(0, stats.get(evaluationId).getQuestions().get(2).getCorrect());
+    }
+
+    private Long addQuestion(String label, String correct, String wrong) {
+        return service.addQuestion(evaluationId, QuestionCreateRequest.builder()
+                .label(label)
+                .options(List.of(correct, wrong))
+                .correctAnswer(correct)
+                .build()).getId();
+    }
+
+    private Long start(long studentId) {
+        return service.start(evaluationId, StartEvaluationRequest.builder()
+                .studentId(studentId)
+                .studentFullName("Student " + studentId)
+                .studentLevel("L1")
+                .build()).getSubmissionId();
+    }
+
+    private void submit(long studentId, String a1, String a2) {
+        submit(start(studentId), studentId, a1, a2);
+    }
+
+    private void submit(Long submissionId, long studentId, String a1, String a2) {
+        service.submit(submissionId, SubmitAnswersRequest.builder()
+                .studentId(studentId)
+                .answers(List.of(
+                        SubmitAnswersRequest.AnswerItem.builder().questionId(q1).chosenAnswer(a1).build(),
+                        SubmitAnswersRequest.AnswerItem.builder().questionId(q2).chosenAnswer(a2).build()))
+                .build());
+    }
+}
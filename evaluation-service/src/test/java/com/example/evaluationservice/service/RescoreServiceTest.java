@@ -0,0 +1,183 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.domain.PrerequisiteLevel;
+import com.example.evaluationservice.dto.*;
+import com.example.evaluationservice.repository.EvaluationStatsRepository;
+import com.example.evaluationservice.repository.EvaluationStatsRepository.Totals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "evaluation.rescore.chunk-size=2")
+@AutoConfigureMockMvc
+class RescoreServiceTest {
+
+    @Autowired private MockMvc mvc;
+    @Autowired private EvaluationService service;
+    @Autowired private EvaluationStatsRepository statsRepo;
+    @Autowired private JdbcTemplate jdbc;
+    @MockitoSpyBean private ScoringService scoring;
+
+    // holds the rescore run before it reads anything, so a second start meets a running job
+    private volatile CountDownLatch gate;
+
+    private Long evaluationId;
+    private Long q1, q2;
+    private Long s1, s2, s3;
+
+    @BeforeEach
+    void submittedEvaluation() {
+        doAnswer(inv -> {
+            CountDownLatch g = gate;
+            if (g != null) assertTrue(g.await(10, TimeUnit.SECONDS));
+            return inv.callRealMethod();
+        }).when(scoring).compile(anyList());
+
+        EvaluationResponse e = service.createEvaluation(EvaluationCreateRequest.builder()
+                .title("Rescore")
+                .prerequisiteLevel(PrerequisiteLevel.BEGINNER)
+                .activityId(1L)
+                .build());
+        evaluationId = e.getId();
+        q1 = addQuestion("Q1", "a", "b");
+        q2 = addQuestion("Q2", "c", "d");
+        service.publishOrUnpublish(evaluationId, true);
+
+        s1 = submit(1L, "a", "c"); // 100
+        s2 = submit(2L, "b", "c"); // 50
+        s3 = submit(3L, "b", "d"); // 0
+    }
+
+    @AfterEach
+    void cleanUp() {
+        service.deleteEvaluation(evaluationId);
+    }
+
+    @Test
+    void rescoreAppliesCorrectedKeyToScoresAnswersAndStats() throws Exception {
+        Totals before = statsRepo.findTotals(evaluationId).orElseThrow();
+        assertEquals(150, before.getScoreSum());
+        assertEquals(12_500, before.getScoreSumSq());
+        assertEquals(2, before.getPassed());
+
+        // professor fixes the key of Q1: "b" was the right answer
+        jdbc.update("UPDATE evaluation_questions SET correct_answer = 'b' WHERE id = ?", q1);
+
+        mvc.perform(post("/api/v1/evaluations/{id}/rescore", evaluationId))
+                .andExpect(status().isAccepted());
+        awaitDone();
+
+        mvc.perform(get("/api/v1/evaluations/{id}/rescore", evaluationId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("DONE"))
+                .andExpect(jsonPath("$.totalSubmissions").value(3))
+                .andExpect(jsonPath("$.processedSubmissions").value(3))
+                .andExpect(jsonPath("$.changedSubmissions").value(3))
+                .andExpect(jsonPath("$.changedAnswers").value(3));
+
+        assertEquals(50, score(s1));
+        assertEquals(100, score(s2));
+        assertEquals(50, score(s3));
+        assertEquals(List.of(false, true), correctness(s1));
+        assertEquals(List.of(true, true), correctness(s2));
+        assertEquals(List.of(true, false), correctness(s3));
+
+        Totals after = statsRepo.findTotals(evaluationId).orElseThrow();
+        assertEquals(3, after.getSubmissions());
+        assertEquals(200, after.getScoreSum());
+        assertEquals(15_000, after.getScoreSumSq());
+        assertEquals(3, after.getPassed());
+        assertArrayEquals(new long[]{0, 0, 0, 0, 0, 2, 0, 0, 0, 1}, after.getBuckets());
+
+        Map<Long, Long> correctByQuestion = new HashMap<>();
+        statsRepo.findQuestionTotals(evaluationId).forEach(q -> correctByQuestion.put(q.getQuestionId(), q.getCorrect()));
+        assertEquals(Map.of(q1, 2L, q2, 2L), correctByQuestion);
+    }
+
+    @Test
+    void secondStartWhileRunningIsRejected() throws Exception {
+        gate = new CountDownLatch(1);
+        try {
+            mvc.perform(post("/api/v1/evaluations/{id}/rescore", evaluationId))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.state").value("RUNNING"));
+
+            mvc.perform(post("/api/v1/evaluations/{id}/rescore", evaluationId))
+                    .andExpect(status().isConflict());
+        } finally {
+            gate.countDown();
+        }
+        awaitDone();
+
+        // finished: a new run is accepted again
+        mvc.perform(post("/api/v1/evaluations/{id}/rescore", evaluationId))
+                .andExpect(status().isAccepted());
+        awaitDone();
+    }
+
+    private void awaitDone() throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (true) {
+            String state = mvc.perform(get("/api/v1/evaluations/{id}/rescore", evaluationId))
+                    .andReturn().getResponse().getContentAsString();
+            if (!state.contains("\"RUNNING\"")) {
+                assertTrue(state.contains("\"DONE\""), state);
+                return;
+            }
+            assertTrue(System.nanoTime() < deadline, "rescore still running");
+            Thread.sleep(20);
+        }
+    }
+
+    private Long addQuestion(String label, String correct, String wrong) {
+        return service.addQuestion(evaluationId, QuestionCreateRequest.builder()
+                .label(label)
+                .options(List.of(correct, wrong))
+                .correctAnswer(correct)
+                .build()).getId();
+    }
+
+    private Long submit(long studentId, String a1, String a2) {
+        Long submissionId = service.start(evaluationId, StartEvaluationRequest.builder()
+                .studentId(studentId)
+                .studentFullName("Student " + studentId)
+                .studentLevel("L1")
+                .build()).getSubmissionId();
+        service.submit(submissionId, SubmitAnswersRequest.builder()
+                .studentId(studentId)
+                .answers(List.of(
+                        SubmitAnswersRequest.AnswerItem.builder().questionId(q1).chosenAnswer(a1).build(),
+                        SubmitAnswersRequest.AnswerItem.builder().questionId(q2).chosenAnswer(a2).build()))
+                .build());
+        return submissionId;
+    }
+
+    private int score(Long submissionId) {
+        return jdbc.queryForObject("SELECT score FROM student_evaluations WHERE id = ?", Integer.class, submissionId);
+    }
+
+    private List<Boolean> correctness(Long submissionId) {
+        return jdbc.queryForList("SELECT correct FROM student_answers WHERE submission_id = ? ORDER BY question_id",
+                Boolean.class, submissionId);
+    }
+}
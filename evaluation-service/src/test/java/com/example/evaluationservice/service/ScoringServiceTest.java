@@ -0,0 +1,93 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.entity.Question;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringServiceTest {
+
+    private final ScoringService scoring = new ScoringService();
+
+    private static Question q(long id, Integer weight, String correct, String... options) {
+        return Question.builder().id(id).correctAnswer(correct).options(List.of(options)).weight(weight).build();
+    }
+
+    @Test
+    void scoresByOptionIndexLikeStringComparison() {
+        AnswerKey key = scoring.compile(List.of(
+                q(10, null, "b", "a", "b", "c"),
+                q(11, null, "x", "x", "y"),
+                q(12, null, "n", "o", "n")));
+
+        byte[] response = key.newResponse();
+        response[key.indexOf(10L)] = key.optionIndex(key.indexOf(10L), "b");
+        response[key.indexOf(11L)] = key.optionIndex(key.indexOf(11L), "not an option");
+
+        ScoreResult r = scoring.score(key, response);
+
+        assertTrue(r.getCorrect().get(0));
+        assertFalse(r.getCorrect().get(1));
+        assertFalse(r.getCorrect().get(2));
+        assertEquals(scoring.percent(1, 3), r.getPercent());
+    }
+
+    @Test
+    void appliesWeights() {
+        AnswerKey key = scoring.compile(List.of(
+                q(1, 3, "a", "a", "b"),
+                q(2, 1, "a", "a", "b")
+        ));
+
+        byte[] response = {0, 1}; // q1 correct (3 pts), q2 wrong
+
+        ScoreResult r = scoring.score(key, response);
+
+        assertEquals(3.0, r.getEarned());
+        assertEquals(4.0, r.getTotal());
+        assertEquals(75, r.getPercent());
+        assertEquals(1, r.getCorrect().cardinality());
+    }
+
+    @Test
+    void wrongOptionsEarnTheirPartialCredit() {
+        Question partial = q(1, 2, "a", "a", "b", "c");
+        partial.setOptionCredits(new byte[]{100, 50, 0});
+        AnswerKey key = scoring.compile(List.of(partial, q(2, 2, "a", "a", "b")));
+
+        ScoreResult half = scoring.score(key, new byte[]{1, 0}); // q1 "b": half of 2 pts, q2 correct
+        assertEquals(3.0, half.getEarned());
+        assertEquals(75, half.getPercent());
+        assertFalse(half.getCorrect().get(0)); // partial credit is not a correct answer
+
+        assertEquals(50, scoring.score(key, new byte[]{2, 0}).getPercent());
+        assertEquals(100, scoring.score(key, new byte[]{0, 0}).getPercent());
+        assertEquals(0, scoring.score(key, new byte[]{AnswerKey.NO_ANSWER, AnswerKey.UNKNOWN_OPTION}).getPercent());
+    }
+
+    @Test
+    void compilesUpToMaxOptions() {
+        String[] options = new String[AnswerKey.MAX_OPTIONS];
+        for (int i = 0; i < options.length; i++) options[i] = "o" + i;
+        String last = options[options.length - 1];
+
+        AnswerKey key = scoring.compile(List.of(q(1, null, last, options)));
+        assertEquals(100, scoring.score(key, new byte[]{key.optionIndex(0, last)}).getPercent());
+
+        String[] tooMany = Arrays.copyOf(options, AnswerKey.MAX_OPTIONS + 1);
+        tooMany[AnswerKey.MAX_OPTIONS] = "extra";
+        assertThrows(IllegalStateException.class, () -> scoring.compile(List.of(q(2, null, "extra", tooMany))));
+    }
+
+    @Test
+    void keepsScoringWhenCorrectAnswerIsMissingFromOptions() {
+        AnswerKey key = scoring.compile(List.of(q(1, null, "legacy", "a", "b")));
+
+        byte[] response = {key.optionIndex(0, "legacy")};
+
+        assertEquals(100, scoring.score(key, response).getPercent());
+    }
+}
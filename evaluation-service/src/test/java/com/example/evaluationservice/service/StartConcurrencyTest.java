@@ -0,0 +1,100 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.domain.PrerequisiteLevel;
+import com.example.evaluationservice.dto.*;
+import com.example.evaluationservice.repository.StudentEvaluationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class StartConcurrencyTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired private EvaluationService service;
+    @Autowired private StudentEvaluationRepository submissionRepo;
+    @Autowired private JdbcTemplate jdbc;
+
+    private Long evaluationId;
+
+    @BeforeEach
+    void publishedEvaluation() {
+        jdbc.update("DELETE FROM student_answers");
+        jdbc.update("DELETE FROM student_evaluations");
+
+        EvaluationResponse e = service.createEvaluation(EvaluationCreateRequest.builder()
+                .title("Concurrency")
+                .prerequisiteLevel(PrerequisiteLevel.BEGINNER)
+                .activityId(1L)
+                .build());
+        service.addQuestion(e.getId(), QuestionCreateRequest.builder()
+                .label("1 + 1 ?")
+                .options(List.of("1", "2"))
+                .correctAnswer("2")
+                .build());
+        service.publishOrUnpublish(e.getId(), true);
+        evaluationId = e.getId();
+    }
+
+    @Test
+    void concurrentStartsCreateExactlyOneSubmission() throws Exception {
+        Set<Long> ids = startConcurrently(i -> null);
+
+        assertEquals(1, ids.size());
+        assertEquals(1, submissionRepo.findByEvaluationIdOrderByStartedAtDesc(evaluationId).size());
+    }
+
+    @Test
+    void retriedStartWithIdempotencyKeyReturnsSameSubmissionAfterSubmit() throws Exception {
+        Set<Long> ids = startConcurrently(i -> "retry-key");
+        assertEquals(1, ids.size());
+        Long submissionId = ids.iterator().next();
+
+        service.submit(submissionId, SubmitAnswersRequest.builder().studentId(42L).answers(List.of()).build());
+
+        StartEvaluationResponse replay = service.start(evaluationId, request(), "retry-key");
+        assertEquals(submissionId, replay.getSubmissionId());
+        assertEquals(1, submissionRepo.findByEvaluationIdOrderByStartedAtDesc(evaluationId).size());
+    }
+
+    private Set<Long> startConcurrently(java.util.function.IntFunction<String> key) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch go = new CountDownLatch(1);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int n = i;
+                results.add(pool.submit(() -> {
+                    go.await();
+                    return service.start(evaluationId, request(), key.apply(n)).getSubmissionId();
+                }));
+            }
+            go.countDown();
+
+            Set<Long> ids = new HashSet<>();
+            for (Future<Long> f : results) ids.add(f.get(30, TimeUnit.SECONDS));
+            return ids;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static StartEvaluationRequest request() {
+        return StartEvaluationRequest.builder()
+                .studentId(42L)
+                .studentFullName("Student")
+                .studentLevel("L1")
+                .build();
+    }
+}
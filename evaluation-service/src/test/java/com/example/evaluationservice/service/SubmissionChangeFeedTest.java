@@ -0,0 +1,164 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.domain.PrerequisiteLevel;
+import com.example.evaluationservice.domain.SubmissionChangeType;
+import com.example.evaluationservice.domain.SubmissionStatus;
+import com.example.evaluationservice.dto.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SubmissionChangeFeedTest {
+
+    @Autowired private EvaluationService service;
+    @Autowired private SubmissionChangeFeed feed;
+    @Autowired private TransactionTemplate tx;
+    @Autowired private JdbcTemplate jdbc;
+
+    private Long evaluationId;
+    private long head;
+
+    @BeforeEach
+    void publishedEvaluation() {
+        EvaluationResponse e = service.createEvaluation(EvaluationCreateRequest.builder()
+                .title("Feed")
+                .prerequisiteLevel(PrerequisiteLevel.BEGINNER)
+                .activityId(1L)
+                .build());
+        service.addQuestion(e.getId(), QuestionCreateRequest.builder()
+                .label("1 + 1 ?")
+                .options(List.of("1", "2"))
+                .correctAnswer("2")
+                .build());
+        service.publishOrUnpublish(e.getId(), true);
+        evaluationId = e.getId();
+        head = feed.read(null, 1).getNextSince();
+    }
+
+    @Test
+    void startsAndSubmitsAreReadInOrderWithTheCurrentRow() throws Exception {
+        // concurrent starts: the losers' transactions roll back together with their change rows
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        Long submissionId;
+        try {
+            List<Future<Long>> starts = new java.util.ArrayList<>();
+            for (int i = 0; i < 8; i++) starts.add(pool.submit(() -> service.start(evaluationId, request(7L), null).getSubmissionId()));
+            submissionId = starts.get(0).get(30, TimeUnit.SECONDS);
+            for (Future<Long> f : starts) assertEquals(submissionId, f.get(30, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+        service.submit(submissionId, SubmitAnswersRequest.builder().studentId(7L).answers(List.of(answer("2"))).build());
+
+        SubmissionChangePageResponse page = feed.read(head, 10);
+        assertEquals(List.of(SubmissionChangeType.STARTED, SubmissionChangeType.SUBMITTED),
+                page.getItems().stream().map(SubmissionChangeResponse::getType).toList());
+        for (SubmissionChangeResponse c : page.getItems()) {
+            assertEquals(submissionId, c.getSubmissionId());
+            assertEquals(SubmissionStatus.SUBMITTED, c.getSubmission().getStatus());
+            assertEquals(100, c.getSubmission().getScore());
+        }
+        assertEquals(page.getItems().get(1).getSequence(), page.getNextSince());
+        assertFalse(page.isHasMore());
+        assertTrue(feed.read(page.getNextSince(), 10).getItems().isEmpty());
+
+        service.deleteEvaluation(evaluationId);
+        SubmissionChangeResponse deleted = feed.read(page.getNextSince(), 10).getItems().get(0);
+        assertEquals(SubmissionChangeType.DELETED, deleted.getType());
+        assertEquals(submissionId, deleted.getSubmissionId());
+        assertNull(deleted.getSubmission());
+    }
+
+    @Test
+    void rolledBackChangesLeaveNoGap() {
+        long started = service.start(evaluationId, request(8L), null).getSubmissionId();
+        tx.executeWithoutResult(st -> {
+            feed.record(started, evaluationId, SubmissionChangeType.RESCORED);
+            st.setRollbackOnly();
+        });
+        tx.executeWithoutResult(st -> feed.record(started, evaluationId, SubmissionChangeType.RESCORED));
+
+        SubmissionChangePageResponse page = feed.read(head, 10);
+        assertEquals(List.of(SubmissionChangeType.STARTED, SubmissionChangeType.RESCORED),
+                page.getItems().stream().map(SubmissionChangeResponse::getType).toList());
+        assertEquals(page.getItems().get(0).getSequence() + 1, page.getItems().get(1).getSequence());
+    }
+
+    @Test
+    void changeOfALongTransactionIsReadAfterTheChangesItCommitsBehind() throws Exception {
+        long started = service.start(evaluationId, request(10L), null).getSubmissionId();
+        long afterStart = feed.read(head, 10).getNextSince();
+
+        // records first, commits last: with seqs taken at insert time its change would sit below one
+        // that readers have already moved past
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> slow = pool.submit(() -> tx.executeWithoutResult(st -> {
+                feed.record(started, evaluationId, SubmissionChangeType.SUBMITTED);
+                recorded.countDown();
+                try {
+                    assertTrue(release.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(recorded.await(10, TimeUnit.SECONDS));
+            tx.executeWithoutResult(st -> feed.record(started, evaluationId, SubmissionChangeType.RESCORED));
+
+            SubmissionChangePageResponse fast = feed.read(afterStart, 10);
+            assertEquals(List.of(SubmissionChangeType.RESCORED),
+                    fast.getItems().stream().map(SubmissionChangeResponse::getType).toList());
+
+            release.countDown();
+            slow.get(10, TimeUnit.SECONDS);
+
+            SubmissionChangePageResponse late = feed.read(fast.getNextSince(), 10);
+            assertEquals(List.of(SubmissionChangeType.SUBMITTED),
+                    late.getItems().stream().map(SubmissionChangeResponse::getType).toList());
+            assertEquals(fast.getNextSince() + 1, late.getNextSince());
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void waitingReaderIsAnsweredWhenAChangeCommits() throws Exception {
+        DeferredResult<SubmissionChangePageResponse> waiting = feed.poll(head, 10, 10_000);
+        assertFalse(waiting.hasResult());
+
+        Long submissionId = service.start(evaluationId, request(9L), null).getSubmissionId();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!waiting.hasResult() && System.nanoTime() < deadline) Thread.sleep(20);
+        SubmissionChangePageResponse page = (SubmissionChangePageResponse) waiting.getResult();
+        assertNotNull(page);
+        assertEquals(submissionId, page.getItems().get(0).getSubmissionId());
+        assertEquals(SubmissionChangeType.STARTED, page.getItems().get(0).getType());
+    }
+
+    private static StartEvaluationRequest request(long studentId) {
+        return StartEvaluationRequest.builder()
+                .studentId(studentId)
+                .studentFullName("Student " + studentId)
+                .studentLevel("L1")
+                .build();
+    }
+
+    private SubmitAnswersRequest.AnswerItem answer(String chosen) {
+        Long questionId = jdbc.queryForObject("SELECT id FROM evaluation_questions WHERE evaluation_id = ?", Long.class, evaluationId);
+        return SubmitAnswersRequest.AnswerItem.builder().questionId(questionId).chosenAnswer(chosen).build();
+    }
+}
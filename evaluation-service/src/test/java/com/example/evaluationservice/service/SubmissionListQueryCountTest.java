@@ -0,0 +1,109 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.domain.PrerequisiteLevel;
+import com.example.evaluationservice.dto.*;
+import com.example.evaluationservice.entity.StudentEvaluation;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest
+class SubmissionListQueryCountTest {
+
+    private static final int EVALUATIONS = 50;
+    private static final int SUBMISSIONS = 10_000;
+
+    @Autowired private EvaluationService service;
+    @Autowired private JdbcTemplate jdbc;
+    @Autowired private EntityManagerFactory emf;
+
+    private Statistics stats;
+
+    @BeforeEach
+    void seed() {
+        jdbc.update("DELETE FROM student_answers");
+        jdbc.update("DELETE FROM student_evaluations");
+        jdbc.update("DELETE FROM evaluations");
+
+        List<Object[]> evals = new ArrayList<>();
+        for (long i = 1; i <= EVALUATIONS; i++) {
+            evals.add(new Object[]{i, "Eval " + i, "BEGINNER", 100 + i, "PUBLISHED"});
+        }
+        jdbc.batchUpdate("INSERT INTO evaluations (id, title, prerequisite_level, activity_id, status) VALUES (?, ?, ?, ?, ?)", evals);
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> subs = new ArrayList<>();
+        for (long i = 1; i <= SUBMISSIONS; i++) {
+            long evalId = (i % EVALUATIONS) + 1;
+            subs.add(new Object[]{i, evalId, i % 500, "Student " + (i % 500), "L1", "SUBMITTED", 50, now});
+        }
+        jdbc.batchUpdate("INSERT INTO student_evaluations (id, evaluation_id, student_id, student_full_name, student_level, status, score, started_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", subs);
+
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+    }
+
+    @Test
+    void listAllSubmissionsIsASingleStatement() {
+        List<SubmissionRowResponse> rows = service.listAllSubmissions();
+
+        assertEquals(SUBMISSIONS, rows.size());
+        assertNotNull(rows.get(0).getEvaluationTitle());
+        assertEquals(1, stats.getPrepareStatementCount());
+    }
+
+    @Test
+    void submitLoadsTheLockedSubmissionOnce() {
+        Long evaluationId = service.createEvaluation(EvaluationCreateRequest.builder()
+                .title("Submit")
+                .prerequisiteLevel(PrerequisiteLevel.BEGINNER)
+                .activityId(1L)
+                .build()).getId();
+        try {
+            Long q1 = service.addQuestion(evaluationId, QuestionCreateRequest.builder()
+                    .label("Q1")
+                    .options(List.of("a", "b"))
+                    .correctAnswer("a")
+                    .build()).getId();
+            service.publishOrUnpublish(evaluationId, true);
+            Long submissionId = service.start(evaluationId, StartEvaluationRequest.builder()
+                    .studentId(1L)
+                    .studentFullName("Student 1")
+                    .studentLevel("L1")
+                    .build()).getSubmissionId();
+
+            stats.clear();
+            service.submit(submissionId, SubmitAnswersRequest.builder()
+                    .studentId(1L)
+                    .answers(List.of(SubmitAnswersRequest.AnswerItem.builder().questionId(q1).chosenAnswer("a").build()))
+                    .build());
+
+            // the answers DELETE leaves the locked submission managed: its save() does not select it again
+            assertEquals(1, stats.getEntityStatistics(StudentEvaluation.class.getName()).getLoadCount());
+        } finally {
+            service.deleteEvaluation(evaluationId);
+        }
+    }
+
+    @Test
+    void listSubmissionsForStudentIsASingleStatement() {
+        List<SubmissionRowResponse> rows = service.listSubmissionsForStudent(7L);
+
+        assertEquals(SUBMISSIONS / 500, rows.size());
+        assertEquals(1, stats.getPrepareStatementCount());
+    }
+}
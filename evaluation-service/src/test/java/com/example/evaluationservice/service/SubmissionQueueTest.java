@@ -0,0 +1,169 @@
+package com.example.evaluationservice.service;
+
+import com.example.evaluationservice.domain.PrerequisiteLevel;
+import com.example.evaluationservice.dto.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Asynchronous submit end to end: intake (202, backpressure) and SubmissionWorker draining
+ * submission_jobs on its schedule (retry with backoff, release of claims left by a dead instance).
+ */
+@SpringBootTest(properties = {
+        "evaluation.submissions.queue.enabled=true",
+        "evaluation.submissions.queue.poll-interval-ms=50",
+        "evaluation.submissions.queue.max-pending=3",
+        "evaluation.submissions.queue.stale-claim-ms=500"
+})
+@AutoConfigureMockMvc
+class SubmissionQueueTest {
+
+    @Autowired private MockMvc mvc;
+    @Autowired private EvaluationService service;
+    @Autowired private JdbcTemplate jdbc;
+    @MockitoSpyBean private ScoringService scoring;
+
+    private Long evaluationId;
+    private Long questionId;
+
+    @BeforeEach
+    void publishedEvaluation() {
+        EvaluationResponse e = service.createEvaluation(EvaluationCreateRequest.builder()
+                .title("Queue")
+                .prerequisiteLevel(PrerequisiteLevel.BEGINNER)
+                .activityId(1L)
+                .build());
+        evaluationId = e.getId();
+        questionId = service.addQuestion(evaluationId, QuestionCreateRequest.builder()
+                .label("1 + 1 ?")
+                .options(List.of("1", "2"))
+                .correctAnswer("2")
+                .build()).getId();
+        service.publishOrUnpublish(evaluationId, true);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM submission_jobs WHERE submission_id > 990000");
+        service.deleteEvaluation(evaluationId);
+    }
+
+    @Test
+    void queuedSubmitIsScoredByTheWorker() throws Exception {
+        Long submissionId = start(1L);
+
+        submitAsync(submissionId, 1L)
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/v1/submissions/" + submissionId + "/submit-status"))
+                .andExpect(header().string("Preference-Applied", "respond-async"));
+
+        awaitStatus(submissionId, "DONE");
+        mvc.perform(get("/api/v1/submissions/{id}/submit-status", submissionId))
+                .andExpect(jsonPath("$.score").value(100))
+                .andExpect(jsonPath("$.attempts").value(1));
+        assertEquals("SUBMITTED", submissionStatus(submissionId));
+    }
+
+    @Test
+    void transientFailureIsRetried() throws Exception {
+        doThrow(new IllegalStateException("transient")).doCallRealMethod().when(scoring).compile(anyList());
+        Long submissionId = start(2L);
+
+        submitAsync(submissionId, 2L).andExpect(status().isAccepted());
+
+        awaitStatus(submissionId, "DONE"); // first attempt fails, the second runs after a 1 s backoff
+        mvc.perform(get("/api/v1/submissions/{id}/submit-status", submissionId))
+                .andExpect(jsonPath("$.attempts").value(2))
+                .andExpect(jsonPath("$.score").value(100));
+        assertEquals("SUBMITTED", submissionStatus(submissionId));
+    }
+
+    @Test
+    void fullQueueRefusesWithRetryAfter() throws Exception {
+        // max-pending jobs of other submissions, not due for a long time
+        Timestamp later = Timestamp.from(Instant.now().plus(1, ChronoUnit.DAYS));
+        for (long id = 990_001; id <= 990_003; id++) {
+            jdbc.update("INSERT INTO submission_jobs (submission_id, student_id, answers_json, status, attempts, next_attempt_at) "
+                    + "VALUES (?, 1, '[]', 'PENDING', 0, ?)", id, later);
+        }
+        Long submissionId = start(3L);
+
+        submitAsync(submissionId, 3L)
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM submission_jobs WHERE submission_id = ?", Integer.class, submissionId));
+
+        jdbc.update("DELETE FROM submission_jobs WHERE submission_id > 990000");
+        submitAsync(submissionId, 3L).andExpect(status().isAccepted());
+        awaitStatus(submissionId, "DONE");
+    }
+
+    @Test
+    void staleClaimIsReleasedAndProcessed() throws Exception {
+        Long submissionId = start(4L);
+        // left PROCESSING by an instance that died an hour ago
+        jdbc.update("INSERT INTO submission_jobs (submission_id, student_id, answers_json, status, attempts, next_attempt_at, claimed_by, claimed_at) "
+                        + "VALUES (?, 4, ?, 'PROCESSING', 0, ?, 'dead-instance', ?)",
+                submissionId, "[{\"questionId\":" + questionId + ",\"chosenAnswer\":\"2\"}]",
+                Timestamp.from(Instant.now().minus(1, ChronoUnit.HOURS)), Timestamp.from(Instant.now().minus(1, ChronoUnit.HOURS)));
+
+        awaitStatus(submissionId, "DONE");
+        assertEquals("SUBMITTED", submissionStatus(submissionId));
+        assertNull(jdbc.queryForObject("SELECT claimed_by FROM submission_jobs WHERE submission_id = ?", String.class, submissionId));
+    }
+
+    private Long start(long studentId) {
+        return service.start(evaluationId, StartEvaluationRequest.builder()
+                .studentId(studentId)
+                .studentFullName("Student " + studentId)
+                .studentLevel("L1")
+                .build()).getSubmissionId();
+    }
+
+    private ResultActions submitAsync(Long submissionId, long studentId) throws Exception {
+        return mvc.perform(post("/api/v1/submissions/{id}/submit", submissionId)
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"studentId\":" + studentId + ",\"answers\":[{\"questionId\":" + questionId + ",\"chosenAnswer\":\"2\"}]}"));
+    }
+
+    private void awaitStatus(Long submissionId, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        String body;
+        do {
+            body = mvc.perform(get("/api/v1/submissions/{id}/submit-status", submissionId))
+                    .andReturn().getResponse().getContentAsString();
+            if (body.contains("\"status\":\"" + expected + "\"")) return;
+            Thread.sleep(50);
+        } while (System.nanoTime() < deadline);
+        fail("submit-status never reached " + expected + ": " + body);
+    }
+
+    private String submissionStatus(Long submissionId) {
+        return jdbc.queryForObject("SELECT status FROM student_evaluations WHERE id = ?", String.class, submissionId);
+    }
+}
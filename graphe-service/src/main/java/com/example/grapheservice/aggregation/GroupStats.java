@@ -0,0 +1,54 @@
+package com.example.grapheservice.aggregation;
+
+import java.util.Arrays;
+
+/**
+ * Per-group submission figures (one group per student or activity) in parallel primitive arrays,
+ * indexed by the group's dense number.
+ */
+final class GroupStats {
+
+    private int[] count = new int[16];
+    private int[] scored = new int[16];
+    private long[] scoreSum = new long[16];
+    private int[] lastScore = new int[16];
+    private int size;
+
+    /** Opens the next group and returns its number. */
+    int add() {
+        if (size == count.length) {
+            int n = size * 2;
+            count = Arrays.copyOf(count, n);
+            scored = Arrays.copyOf(scored, n);
+            scoreSum = Arrays.copyOf(scoreSum, n);
+            lastScore = Arrays.copyOf(lastScore, n);
+        }
+        return size++;
+    }
+
+    /** sign = 1 adds a submission, -1 takes one back out (its score stays the last one until replaced). */
+    void record(int group, int score, int sign) {
+        count[group] += sign;
+        if (score == SubmissionAggregator.NO_SCORE) return;
+        scored[group] += sign;
+        scoreSum[group] += (long) sign * score;
+        if (sign > 0) lastScore[group] = score;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int count(int group) {
+        return count[group];
+    }
+
+    double average(int group) {
+        return scored[group] == 0 ? 0.0 : (double) scoreSum[group] / scored[group];
+    }
+
+    /** Last non-null score, null when the group has none yet. */
+    Integer lastScore(int group) {
+        return scored[group] == 0 ? null : lastScore[group];
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.grapheservice.aggregation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming access to a JSON array of objects, one object at a time: nothing of a row is kept
+ * once its handler returns. Scalar readers follow JsonNode.asText/asInt/asLong so results match
+ * the former tree-based parsing.
+ */
+public final class JsonRows {
+
+    @FunctionalInterface
+    public interface FieldHandler {
+        /** Called with the parser on the field's value; must consume it (read it or skipChildren). */
+        void field(String name, JsonParser p) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface RowEnd {
+        void end();
+    }
+
+    private JsonRows() {
+    }
+
+    /**
+     * Walks a top-level array: for each object, every field goes to onField, then onRowEnd is called.
+     * Anything other than an array at the root is read as no rows.
+     */
+    public static void forEachObject(JsonParser p, FieldHandler onField, RowEnd onRowEnd) throws IOException {
+        if (p.nextToken() != JsonToken.START_ARRAY) return;
+
+        JsonToken t;
+        while ((t = p.nextToken()) != null && t != JsonToken.END_ARRAY) {
+            if (t != JsonToken.START_OBJECT) {
+                p.skipChildren(); // not a row
+                continue;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.currentName();
+                p.nextToken();
+                onField.field(name, p);
+            }
+            onRowEnd.end();
+        }
+    }
+
+    /** Text of a scalar; null for null, blank, objects and arrays. */
+    public static String text(JsonParser p) throws IOException {
+        if (p.currentToken().isStructStart()) {
+            p.skipChildren();
+            return null;
+        }
+        String t = p.getValueAsString();
+        return (t == null || t.isBlank()) ? null : t;
+    }
+
+    /** Int value (numbers, numeric strings, booleans as 0/1); ifNull only for JSON null. */
+    public static int intOr(JsonParser p, int ifNull) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) return ifNull;
+        if (p.currentToken().isStructStart()) {
+            p.skipChildren();
+            return 0;
+        }
+        return p.getValueAsInt(0);
+    }
+
+    public static long longOr(JsonParser p, long ifNull) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) return ifNull;
+        if (p.currentToken().isStructStart()) {
+            p.skipChildren();
+            return 0L;
+        }
+        return p.getValueAsLong(0L);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.grapheservice.aggregation;
+
+import java.util.Arrays;
+
+/**
+ * Numbers long keys 0, 1, 2... in the order they are first seen (open addressing, linear probing):
+ * no boxing and no entry object per key, the dense number then indexes plain arrays such as {@link GroupStats}.
+ */
+final class LongIndex {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] table;   // keys
+    private int[] slots;    // dense number + 1, 0 = free
+    private long[] keys;    // by dense number
+    private int size;
+
+    LongIndex() {
+        table = new long[MIN_CAPACITY];
+        slots = new int[MIN_CAPACITY];
+        keys = new long[MIN_CAPACITY / 2];
+    }
+
+    /** Dense number of key, assigning the next one when the key is new. */
+    int getOrAdd(long key) {
+        int mask = table.length - 1;
+        int i = mix(key) & mask;
+        while (slots[i] != 0) {
+            if (table[i] == key) return slots[i] - 1;
+            i = (i + 1) & mask;
+        }
+
+        int slot = size++;
+        table[i] = key;
+        slots[i] = slot + 1;
+        if (slot == keys.length) keys = Arrays.copyOf(keys, keys.length * 2);
+        keys[slot] = key;
+        if (size * 2 > table.length) rehash(); // load factor 0.5
+        return slot;
+    }
+
+    long key(int slot) {
+        return keys[slot];
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void rehash() {
+        long[] oldTable = table;
+        int[] oldSlots = slots;
+        table = new long[oldTable.length * 2];
+        slots = new int[oldSlots.length * 2];
+        int mask = table.length - 1;
+        for (int j = 0; j < oldTable.length; j++) {
+            if (oldSlots[j] == 0) continue;
+            int i = mix(oldTable[j]) & mask;
+            while (slots[i] != 0) i = (i + 1) & mask;
+            table[i] = oldTable[j];
+            slots[i] = oldSlots[j];
+        }
+    }
+
+    // ids are mostly small consecutive numbers: spread them before masking
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.grapheservice.aggregation;
+
+import com.example.grapheservice.dto.OverviewResponse;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Submission metrics of the dashboard, computed in a single pass: each row is decoded once into
+ * primitive fields, then every metric is updated from them. Groups live in {@link GroupStats} arrays
+ * (activities numbered by {@link LongIndex}), so memory grows with the number of students and
+ * activities, not with the number of submissions.
+ * <p>
+ * An {@link #incremental()} aggregator also remembers what each submission contributed (a few tens of bytes
+ * per submission), so rows changed upstream can be applied later without reading everything again.
+ */
+public class SubmissionAggregator {
+
+    public static final int NO_SCORE = Integer.MIN_VALUE;
+    public static final long NO_ACTIVITY = Long.MIN_VALUE;
+    public static final long NO_ID = Long.MIN_VALUE;
+    private static final int NO_GROUP = -1;
+
+    public static final byte STATUS_OTHER = 0;
+    public static final byte STATUS_SUBMITTED = 1;
+    public static final byte STATUS_IN_PROGRESS = 2;
+
+    private static final String[] SCORE_RANGES = {"0-20", "21-40", "41-60", "61-80", "81-100"};
+
+    private int total;
+    private int submitted;
+    private int inProgress;
+    private final int[] scoreHistogram = new int[SCORE_RANGES.length];
+
+    // group numbers follow the first submission seen
+    private final Map<String, Integer> studentGroups = new HashMap<>();
+    private final List<String> studentNames = new ArrayList<>();
+    private final GroupStats students = new GroupStats();
+    private final LongIndex activityGroups = new LongIndex();
+    private final GroupStats activities = new GroupStats();
+
+    // incremental mode only: each submission's last contribution, so that a changed row replaces it
+    private final Ledger ledger;
+    private Instant lastChange;
+
+    private SubmissionAggregator(boolean incremental) {
+        this.ledger = incremental ? new Ledger() : null;
+    }
+
+    public SubmissionAggregator() {
+        this(false);
+    }
+
+    /** Empty aggregator that accepts changed rows, see {@link #apply(SubmissionChanges)}. */
+    public static SubmissionAggregator incremental() {
+        return new SubmissionAggregator(true);
+    }
+
+    /**
+     * Reads a JSON array of submission rows (status, score, studentFullName, activityId, plus submissionId and
+     * updatedAt so that later changes can replace them) into an incremental aggregator.
+     */
+    public static SubmissionAggregator incrementalFrom(JsonParser p) throws IOException {
+        SubmissionAggregator aggregator = incremental();
+        SubmissionRow row = new SubmissionRow(true);
+        JsonRows.forEachObject(p, row::read, () -> {
+            aggregator.upsert(row.id, row.status, row.score, row.studentName, row.activityId);
+            aggregator.advance(row.updatedAt);
+            row.clear();
+        });
+        return aggregator;
+    }
+
+    /** One submission row; score is NO_SCORE while IN_PROGRESS, activityId NO_ACTIVITY when unknown. */
+    public void accept(byte status, int score, String studentName, long activityId) {
+        add(status, score,
+                studentName == null ? NO_GROUP : studentGroup(studentName),
+                activityId == NO_ACTIVITY ? NO_GROUP : activityGroup(activityId),
+                1);
+    }
+
+    /**
+     * Applies rows that changed upstream: a submission seen before is replaced (its previous status, score
+     * and groups are taken back out), a new one is added. Applying the same rows twice changes nothing,
+     * so change windows may overlap.
+     */
+    public void apply(SubmissionChanges changes) {
+        if (ledger == null) throw new IllegalStateException("not an incremental aggregator");
+        for (int i = 0; i < changes.size; i++) {
+            upsert(changes.ids[i], changes.statuses[i], changes.scores[i], changes.studentNames[i], changes.activityIds[i]);
+        }
+        advance(changes.lastChange);
+    }
+
+    /** Latest updatedAt applied so far (the watermark of the next change query), null before any. */
+    public Instant lastChange() {
+        return lastChange;
+    }
+
+    private void upsert(long id, byte status, int score, String studentName, long activityId) {
+        if (id == NO_ID) { // cannot be replaced later: counted as is
+            accept(status, score, studentName, activityId);
+            return;
+        }
+        int student = studentName == null ? NO_GROUP : studentGroup(studentName);
+        int activity = activityId == NO_ACTIVITY ? NO_GROUP : activityGroup(activityId);
+
+        int row = ledger.rows.getOrAdd(id);
+        if (row < ledger.size) {
+            add(ledger.status[row], ledger.score[row], ledger.student[row], ledger.activity[row], -1);
+        } else {
+            ledger.add();
+        }
+        add(status, score, student, activity, 1);
+        ledger.status[row] = status;
+        ledger.score[row] = score;
+        ledger.student[row] = student;
+        ledger.activity[row] = activity;
+    }
+
+    // sign = 1 adds the row, -1 takes it back out
+    private void add(byte status, int score, int student, int activity, int sign) {
+        total += sign;
+        if (status == STATUS_SUBMITTED) submitted += sign;
+        else if (status == STATUS_IN_PROGRESS) inProgress += sign;
+
+        if (score != NO_SCORE) scoreHistogram[bucket(score)] += sign;
+        if (student != NO_GROUP) students.record(student, score, sign);
+        if (activity != NO_GROUP) activities.record(activity, score, sign);
+    }
+
+    private void advance(Instant updatedAt) {
+        if (updatedAt != null && (lastChange == null || updatedAt.isAfter(lastChange))) lastChange = updatedAt;
+    }
+
+    public static byte status(String status) {
+        if ("SUBMITTED".equalsIgnoreCase(status)) return STATUS_SUBMITTED;
+        if ("IN_PROGRESS".equalsIgnoreCase(status)) return STATUS_IN_PROGRESS;
+        return STATUS_OTHER;
+    }
+
+    public int total() {
+        return total;
+    }
+
+    public int submitted() {
+        return submitted;
+    }
+
+    public int inProgress() {
+        return inProgress;
+    }
+
+    public int distinctStudents() {
+        int n = 0;
+        for (int g = 0; g < students.size(); g++) if (students.count(g) > 0) n++;
+        return n;
+    }
+
+    public List<OverviewResponse.ScoreDistributionItem> scoreDistribution() {
+        List<OverviewResponse.ScoreDistributionItem> out = new ArrayList<>(SCORE_RANGES.length);
+        for (int i = 0; i < SCORE_RANGES.length; i++) {
+            out.add(OverviewResponse.ScoreDistributionItem.builder().range(SCORE_RANGES[i]).count(scoreHistogram[i]).build());
+        }
+        return out;
+    }
+
+    public List<OverviewResponse.StudentPerformanceItem> studentsPerformance() {
+        List<OverviewResponse.StudentPerformanceItem> out = new ArrayList<>(students.size());
+        for (int g = 0; g < students.size(); g++) {
+            if (students.count(g) == 0) continue; // every submission of the group was moved elsewhere
+            double avg = students.average(g);
+            out.add(OverviewResponse.StudentPerformanceItem.builder()
+                    .studentId(0)
+                    .studentName(studentNames.get(g))
+                    .submissionsCount(students.count(g))
+                    .avgScore(round2(avg))
+                    .lastScore(students.lastScore(g))
+                    .atRisk(avg > 0 && avg < 50)
+                    .build());
+        }
+        return out;
+    }
+
+    /** Most submitted first; titles from the activities source, "Activity &lt;id&gt;" when unknown. */
+    public List<OverviewResponse.TopActivityItem> topActivities(Map<Long, String> activityTitles) {
+        List<OverviewResponse.TopActivityItem> out = new ArrayList<>(activities.size());
+        for (int g = 0; g < activities.size(); g++) {
+            if (activities.count(g) == 0) continue;
+            long id = activityGroups.key(g);
+            out.add(OverviewResponse.TopActivityItem.builder()
+                    .activityId(id)
+                    .activityTitle(activityTitles.getOrDefault(id, "Activity " + id))
+                    .submissionsCount(activities.count(g))
+                    .avgScore(round2(activities.average(g)))
+                    .build());
+        }
+        out.sort(Comparator.comparingInt(OverviewResponse.TopActivityItem::getSubmissionsCount).reversed());
+        return out;
+    }
+
+    static int bucket(int score) {
+        if (score <= 20) return 0;
+        if (score <= 40) return 1;
+        if (score <= 60) return 2;
+        if (score <= 80) return 3;
+        return 4;
+    }
+
+    private int studentGroup(String name) {
+        Integer g = studentGroups.get(name);
+        if (g != null) return g;
+        int added = students.add();
+        studentGroups.put(name, added);
+        studentNames.add(name);
+        return added;
+    }
+
+    private int activityGroup(long id) {
+        int g = activityGroups.getOrAdd(id);
+        if (g == activities.size()) activities.add(); // new key
+        return g;
+    }
+
+    private static double round2(double v) {
+        return Math.round(v * 100.0) / 100.0;
+    }
+
+    // incremental mode: row number by submission id, then what that row last contributed
+    private static final class Ledger {
+        final LongIndex rows = new LongIndex();
+        byte[] status = new byte[16];
+        int[] score = new int[16];
+        int[] student = new int[16];
+        int[] activity = new int[16];
+        int size;
+
+        void add() {
+            if (size == status.length) {
+                int n = size * 2;
+                status = Arrays.copyOf(status, n);
+                score = Arrays.copyOf(score, n);
+                student = Arrays.copyOf(student, n);
+                activity = Arrays.copyOf(activity, n);
+            }
+            size++;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.grapheservice.aggregation;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Submission rows changed since a watermark (GET /api/v1/submissions?changedSince=...), decoded and buffered
+ * so they can be read on a fetch thread and applied later by the thread that owns the aggregator.
+ */
+public final class SubmissionChanges {
+
+    long[] ids = new long[16];
+    byte[] statuses = new byte[16];
+    int[] scores = new int[16];
+    String[] studentNames = new String[16];
+    long[] activityIds = new long[16];
+    int size;
+    Instant lastChange;
+
+    public static SubmissionChanges read(JsonParser p) throws IOException {
+        SubmissionChanges changes = new SubmissionChanges();
+        SubmissionRow row = new SubmissionRow(true);
+        JsonRows.forEachObject(p, row::read, () -> {
+            changes.add(row);
+            row.clear();
+        });
+        return changes;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Latest updatedAt among the rows, null when there is none. */
+    public Instant lastChange() {
+        return lastChange;
+    }
+
+    private void add(SubmissionRow row) {
+        if (size == ids.length) {
+            int n = size * 2;
+            ids = Arrays.copyOf(ids, n);
+            statuses = Arrays.copyOf(statuses, n);
+            scores = Arrays.copyOf(scores, n);
+            studentNames = Arrays.copyOf(studentNames, n);
+            activityIds = Arrays.copyOf(activityIds, n);
+        }
+        ids[size] = row.id;
+        statuses[size] = row.status;
+        scores[size] = row.score;
+        studentNames[size] = row.studentName;
+        activityIds[size] = row.activityId;
+        size++;
+        if (row.updatedAt != null && (lastChange == null || row.updatedAt.isAfter(lastChange))) lastChange = row.updatedAt;
+    }
+}
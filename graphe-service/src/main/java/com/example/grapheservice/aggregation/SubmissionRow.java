@@ -0,0 +1,65 @@
+package com.example.grapheservice.aggregation;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+import static com.example.grapheservice.aggregation.SubmissionAggregator.*;
+
+/**
+ * Fields of the submission row being read, decoded once into primitives and reused from one row to the next.
+ * submissionId and updatedAt are only decoded when withChangeInfo (incremental aggregation).
+ */
+final class SubmissionRow {
+
+    private final boolean withChangeInfo;
+
+    long id = NO_ID;
+    byte status = STATUS_OTHER;
+    int score = NO_SCORE;
+    String studentName;
+    long activityId = NO_ACTIVITY;
+    Instant updatedAt;
+
+    SubmissionRow(boolean withChangeInfo) {
+        this.withChangeInfo = withChangeInfo;
+    }
+
+    void read(String field, JsonParser p) throws IOException {
+        switch (field) {
+            case "status" -> status = status(JsonRows.text(p));
+            case "score" -> score = JsonRows.intOr(p, NO_SCORE);
+            case "studentFullName" -> studentName = JsonRows.text(p);
+            case "activityId" -> activityId = JsonRows.longOr(p, NO_ACTIVITY);
+            case "submissionId" -> {
+                if (withChangeInfo) id = JsonRows.longOr(p, NO_ID);
+                else p.skipChildren();
+            }
+            case "updatedAt" -> {
+                if (withChangeInfo) updatedAt = instant(JsonRows.text(p));
+                else p.skipChildren();
+            }
+            default -> p.skipChildren();
+        }
+    }
+
+    void clear() {
+        id = NO_ID;
+        status = STATUS_OTHER;
+        score = NO_SCORE;
+        studentName = null;
+        activityId = NO_ACTIVITY;
+        updatedAt = null;
+    }
+
+    private static Instant instant(String text) {
+        if (text == null) return null;
+        try {
+            return Instant.parse(text);
+        } catch (DateTimeParseException e) {
+            return null; // no watermark from this row
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.grapheservice.config;
+
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * SimpleClientHttpRequestFactory whose connections obey the {@link Deadline} bound to the calling thread:
+ * connect and read timeouts are capped to the time left, so a call blocked on a silent upstream gives its
+ * thread back at the deadline instead of after the factory-wide read timeout.
+ * Without a bound deadline it behaves like its parent.
+ * <p>
+ * The deadline is enforced on the socket because nothing else can stop a blocked read: interrupting the
+ * thread does not, and HttpURLConnection.disconnect() from another thread waits for the reader to finish.
+ */
+public class DeadlineRequestFactory extends SimpleClientHttpRequestFactory {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    /** Runs call with every connection it opens bound to deadline. */
+    public static <T> T within(Deadline deadline, Supplier<T> call) {
+        CURRENT.set(deadline);
+        try {
+            return call.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    @Override
+    protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+        Deadline deadline = CURRENT.get();
+        if (deadline != null) deadline.attach(connection);
+    }
+
+    /** Time budget of one upstream call. */
+    public static final class Deadline {
+
+        private final long deadlineNanos;
+        private volatile boolean aborted;
+
+        public Deadline(long timeoutMs) {
+            this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        }
+
+        /** Gives up the call: it fails before connecting, or at its next read of the body. */
+        public void abort() {
+            aborted = true;
+        }
+
+        /** body checked against the deadline before every read: a slow but steady upstream is cut off too. */
+        public InputStream guard(InputStream body) {
+            return new FilterInputStream(body) {
+                @Override
+                public int read() throws IOException {
+                    remainingMs();
+                    return super.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    remainingMs();
+                    return super.read(b, off, len);
+                }
+            };
+        }
+
+        void attach(HttpURLConnection c) throws SocketTimeoutException {
+            long remainingMs = remainingMs();
+            c.setConnectTimeout(cap(c.getConnectTimeout(), remainingMs));
+            c.setReadTimeout(cap(c.getReadTimeout(), remainingMs));
+        }
+
+        private long remainingMs() throws SocketTimeoutException {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            if (aborted || remainingMs <= 0) throw new SocketTimeoutException("upstream deadline passed");
+            return remainingMs;
+        }
+
+        private static int cap(int timeoutMs, long remainingMs) {
+            // 0 is "no timeout" for HttpURLConnection
+            return (int) (timeoutMs == 0 ? remainingMs : Math.min(timeoutMs, remainingMs));
+        }
+    }
+}
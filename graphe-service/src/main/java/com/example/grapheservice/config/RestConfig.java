@@ -4,20 +4,46 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 public class RestConfig {
 
+    /** Connections opened inside DeadlineRequestFactory.within(...) also obey that call's deadline. */
     @Bean
     public RestTemplate restTemplate(
             @Value("${rest.connect-timeout-ms:4000}") int connectTimeoutMs,
             @Value("${rest.read-timeout-ms:6000}") int readTimeoutMs
     ) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        DeadlineRequestFactory factory = new DeadlineRequestFactory();
         factory.setConnectTimeout(connectTimeoutMs);
         factory.setReadTimeout(readTimeoutMs);
         return new RestTemplate(factory);
     }
+
+    /**
+     * Runs the upstream fetches of a dashboard concurrently. Bounded on both threads and queue:
+     * when full, the fetch is rejected and the dashboard is served as partial instead of piling up.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService upstreamFetchExecutor(@Value("${rest.fetch-threads:8}") int threads) {
+        AtomicInteger seq = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                r -> {
+                    Thread t = new Thread(r, "upstream-fetch-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
 }
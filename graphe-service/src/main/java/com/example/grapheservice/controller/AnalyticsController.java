@@ -2,8 +2,14 @@ package com.example.grapheservice.controller;
 
 import com.example.grapheservice.dto.OverviewResponse;
 import com.example.grapheservice.service.AnalyticsService;
+import com.example.grapheservice.service.DashboardSnapshot;
+import com.example.grapheservice.service.DashboardSnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Instant;
@@ -16,7 +22,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AnalyticsController {
 
+    /** Last refresh in which every source answered, see DashboardSnapshot.refreshedAt. */
+    public static final String REFRESHED_AT = "Dashboard-Refreshed-At";
+
     private final AnalyticsService analyticsService;
+    private final DashboardSnapshotService dashboardSnapshots;
 
     @Value("${services.evaluationBaseUrl}")
     private String evaluationBaseUrl;
@@ -24,9 +34,26 @@ public class AnalyticsController {
     @Value("${services.activityBaseUrl}")
     private String activityBaseUrl;
 
+    /**
+     * Served from the in-memory snapshot (refreshed in the background). Conditional GET:
+     * If-None-Match with the current ETag answers 304 without a body.
+     * 503 with Retry-After while the first snapshot is being built at startup.
+     */
     @GetMapping("/dashboard")
-    public OverviewResponse dashboard() {
-        return analyticsService.getOverview(null);
+    public ResponseEntity<OverviewResponse> dashboard() {
+        return dashboardSnapshots.current()
+                .map(this::dashboard)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "10")
+                        .build());
+    }
+
+    private ResponseEntity<OverviewResponse> dashboard(DashboardSnapshot snapshot) {
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache()) // browsers revalidate with the ETag on every load
+                .eTag(snapshot.etag());
+        if (snapshot.refreshedAt() != null) ok.header(REFRESHED_AT, snapshot.refreshedAt().toString()); // also on a 304
+        return ok.body(snapshot.overview());
     }
 
     @GetMapping("/health")
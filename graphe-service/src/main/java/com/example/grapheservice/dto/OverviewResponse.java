@@ -29,6 +29,14 @@ public class OverviewResponse {
     private List<TopActivityItem> topActivities;
     private List<StudentPerformanceItem> studentsPerformance;
 
+    // true when some upstream source failed or timed out: its figures are missing (counted as empty),
+    // or, on the dashboard snapshot, carried over from the previous refresh (then stale is true)
+    private boolean partial;
+    private List<String> unavailableSources; // "evaluations", "submissions", "activities"
+
+    // dashboard snapshot: some figures are older than generatedAt because their source failed on the last refresh
+    private boolean stale;
+
     @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
     public static class ScoreDistributionItem {
         private String range;
@@ -1,23 +1,50 @@
 package com.example.grapheservice.service;
 
+import com.example.grapheservice.aggregation.JsonRows;
+import com.example.grapheservice.aggregation.SubmissionAggregator;
+import com.example.grapheservice.config.DeadlineRequestFactory;
+import com.example.grapheservice.config.DeadlineRequestFactory.Deadline;
 import com.example.grapheservice.dto.OverviewResponse;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Upstream sources of the admin dashboard, read by DashboardSnapshotService: the calls of one refresh run
+ * concurrently on upstreamFetchExecutor, each with its own deadline, and every response is streamed straight
+ * into its aggregate (rows are never kept).
+ */
 @Service
 @RequiredArgsConstructor
 public class AnalyticsService {
 
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsService.class);
+
+    static final String SOURCE_EVALUATIONS = "evaluations";
+    static final String SOURCE_SUBMISSIONS = "submissions";
+    static final String SOURCE_ACTIVITIES = "activities";
+
     private final RestTemplate restTemplate;
+    private final ExecutorService upstreamFetchExecutor;
     private final ObjectMapper mapper = new ObjectMapper();
 
     @Value("${services.evaluationBaseUrl}")
@@ -29,191 +56,190 @@ public class AnalyticsService {
     @Value("${services.authBaseUrl}")
     private String authBaseUrl;
 
-    public OverviewResponse getOverview(String authorization) {
-        try {
-            // 1) Récupérer les vraies données des services
-            List<JsonNode> evaluations = fetchDirectData("http://localhost:8083/api/v1/evaluations");
-            List<JsonNode> submissions = fetchDirectData("http://localhost:8083/api/v1/submissions");
-            List<JsonNode> activities = fetchDirectData("http://localhost:8082/api/v1/activities");
-
-            // 2) Calculer les vraies statistiques
-            int totalEvaluations = evaluations.size();
-            int publishedEvaluations = (int) evaluations.stream()
-                    .filter(e -> "PUBLISHED".equalsIgnoreCase(getTextSafe(e, "status")))
-                    .count();
-
-            int totalSubmissions = submissions.size();
-            int submittedCount = (int) submissions.stream()
-                    .filter(s -> "SUBMITTED".equalsIgnoreCase(getTextSafe(s, "status")))
-                    .count();
-
-            int inProgressCount = (int) submissions.stream()
-                    .filter(s -> "IN_PROGRESS".equalsIgnoreCase(getTextSafe(s, "status")))
-                    .count();
-
-            int totalActivities = activities.size();
-
-            // 3) Calculer les étudiants uniques
-            Set<String> uniqueStudents = submissions.stream()
-                    .map(s -> getTextSafe(s, "studentFullName"))
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toSet());
-            int totalStudents = uniqueStudents.size();
-
-            // 4) Performance par étudiant
-            List<OverviewResponse.StudentPerformanceItem> studentsPerformance = new ArrayList<>();
-            Map<String, List<JsonNode>> byStudent = submissions.stream()
-                    .collect(Collectors.groupingBy(s -> getTextSafe(s, "studentFullName")));
-
-            for (Map.Entry<String, List<JsonNode>> entry : byStudent.entrySet()) {
-                String studentName = entry.getKey();
-                List<JsonNode> studentSubmissions = entry.getValue();
-
-                List<Integer> scores = studentSubmissions.stream()
-                        .map(s -> getIntSafe(s, "score"))
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList());
-
-                double avgScore = scores.stream().mapToInt(Integer::intValue).average().orElse(0.0);
-                Integer lastScore = scores.isEmpty() ? null : scores.get(scores.size() - 1);
-                boolean atRisk = avgScore > 0 && avgScore < 50;
-
-                studentsPerformance.add(
-                        OverviewResponse.StudentPerformanceItem.builder()
-                                .studentId(0)
-                                .studentName(studentName)
-                                .submissionsCount(studentSubmissions.size())
-                                .avgScore(Math.round(avgScore * 100.0) / 100.0)
-                                .lastScore(lastScore)
-                                .atRisk(atRisk)
-                                .build()
-                );
-            }
+    @Value("${rest.timeouts.evaluations-ms:3000}")
+    private long evaluationsTimeoutMs;
+
+    @Value("${rest.timeouts.submissions-ms:6000}")
+    private long submissionsTimeoutMs;
+
+    @Value("${rest.timeouts.activities-ms:3000}")
+    private long activitiesTimeoutMs;
+
+    OverviewResponse overview(EvaluationCounts evaluations, SubmissionAggregator submissions, ActivityTitles activities,
+                              List<String> unavailable) {
+        List<OverviewResponse.StudentPerformanceItem> studentsPerformance = submissions.studentsPerformance();
+        int atRiskCount = (int) studentsPerformance.stream().filter(OverviewResponse.StudentPerformanceItem::isAtRisk).count();
+
+        return OverviewResponse.builder()
+                .generatedAt(Instant.now().toString())
+                .totalStudents(submissions.distinctStudents())
+                .totalEvaluations(evaluations.total)
+                .publishedEvaluations(evaluations.published)
+                .totalActivities(activities.total)
+                .totalSubmissions(submissions.total())
+                .submittedCount(submissions.submitted())
+                .inProgressCount(submissions.inProgress())
+                .atRiskStudentsCount(atRiskCount)
+                .scoreDistribution(submissions.scoreDistribution())
+                .topActivities(submissions.topActivities(activities.titleById))
+                .studentsPerformance(studentsPerformance)
+                .partial(!unavailable.isEmpty())
+                .unavailableSources(unavailable)
+                .build();
+    }
 
-            // 5) Distribution des scores
-            int c0_20 = 0, c21_40 = 0, c41_60 = 0, c61_80 = 0, c81_100 = 0;
-            for (JsonNode s : submissions) {
-                Integer score = getIntSafe(s, "score");
-                if (score == null) continue;
-
-                if (score <= 20) c0_20++;
-                else if (score <= 40) c21_40++;
-                else if (score <= 60) c41_60++;
-                else if (score <= 80) c61_80++;
-                else c81_100++;
-            }
+    CompletableFuture<EvaluationCounts> fetchEvaluations() {
+        return fetchAsync(evaluationBaseUrl + "/api/v1/evaluations", evaluationsTimeoutMs, AnalyticsService::readEvaluations);
+    }
 
-            List<OverviewResponse.ScoreDistributionItem> scoreDist = List.of(
-                    OverviewResponse.ScoreDistributionItem.builder().range("0-20").count(c0_20).build(),
-                    OverviewResponse.ScoreDistributionItem.builder().range("21-40").count(c21_40).build(),
-                    OverviewResponse.ScoreDistributionItem.builder().range("41-60").count(c41_60).build(),
-                    OverviewResponse.ScoreDistributionItem.builder().range("61-80").count(c61_80).build(),
-                    OverviewResponse.ScoreDistributionItem.builder().range("81-100").count(c81_100).build()
-            );
-
-            // 6) Top activités
-            Map<Long, String> activityTitleById = new HashMap<>();
-            for (JsonNode a : activities) {
-                Long id = getLongSafe(a, "id");
-                if (id == null) continue;
-                String title = getTextSafe(a, "title");
-                if (title != null) activityTitleById.put(id, title);
-            }
+    CompletableFuture<ActivityTitles> fetchActivities() {
+        return fetchAsync(activityBaseUrl + "/api/v1/activities", activitiesTimeoutMs, AnalyticsService::readActivities);
+    }
 
-            Map<Long, List<JsonNode>> byActivity = submissions.stream()
-                    .filter(s -> getLongSafe(s, "activityId") != null)
-                    .collect(Collectors.groupingBy(s -> getLongSafe(s, "activityId")));
-
-            List<OverviewResponse.TopActivityItem> topActivities = new ArrayList<>();
-            for (Map.Entry<Long, List<JsonNode>> entry : byActivity.entrySet()) {
-                Long activityId = entry.getKey();
-                List<JsonNode> activitySubmissions = entry.getValue();
-
-                double avgScore = activitySubmissions.stream()
-                        .map(x -> getIntSafe(x, "score"))
-                        .filter(Objects::nonNull)
-                        .mapToInt(Integer::intValue)
-                        .average()
-                        .orElse(0.0);
-
-                String title = activityTitleById.getOrDefault(activityId, "Activity " + activityId);
-
-                topActivities.add(
-                        OverviewResponse.TopActivityItem.builder()
-                                .activityId(activityId)
-                                .activityTitle(title)
-                                .submissionsCount(activitySubmissions.size())
-                                .avgScore(Math.round(avgScore * 100.0) / 100.0)
-                                .build()
-                );
-            }
+    /** query: "" for every submission, or e.g. "?changedSince=..." */
+    <T> CompletableFuture<T> fetchSubmissions(String query, StreamReader<T> reader) {
+        return fetchSubmissions(query, submissionsTimeoutMs, reader);
+    }
 
-            topActivities.sort(Comparator.comparingInt(OverviewResponse.TopActivityItem::getSubmissionsCount).reversed());
-
-            // 7) Calculer les étudiants à risque
-            int atRiskCount = (int) studentsPerformance.stream().filter(OverviewResponse.StudentPerformanceItem::isAtRisk).count();
-
-            return OverviewResponse.builder()
-                    .generatedAt(Instant.now().toString())
-                    .totalStudents(totalStudents)
-                    .totalEvaluations(totalEvaluations)
-                    .publishedEvaluations(publishedEvaluations)
-                    .totalActivities(totalActivities)
-                    .totalSubmissions(totalSubmissions)
-                    .submittedCount(submittedCount)
-                    .inProgressCount(inProgressCount)
-                    .atRiskStudentsCount(atRiskCount)
-                    .scoreDistribution(scoreDist)
-                    .topActivities(topActivities)
-                    .studentsPerformance(studentsPerformance)
-                    .build();
+    /** same with a deadline other than rest.timeouts.submissions-ms; await the call with the same timeoutMs */
+    <T> CompletableFuture<T> fetchSubmissions(String query, long timeoutMs, StreamReader<T> reader) {
+        return fetchAsync(evaluationBaseUrl + "/api/v1/submissions" + query, timeoutMs, reader);
+    }
 
-        } catch (Exception e) {
-            System.err.println("Error fetching data: " + e.getMessage());
-            e.printStackTrace();
-            
-            // Return empty response in case of error
-            return OverviewResponse.builder()
-                    .generatedAt(Instant.now().toString())
-                    .totalStudents(0)
-                    .totalEvaluations(0)
-                    .publishedEvaluations(0)
-                    .totalActivities(0)
-                    .totalSubmissions(0)
-                    .submittedCount(0)
-                    .inProgressCount(0)
-                    .atRiskStudentsCount(0)
-                    .scoreDistribution(List.of())
-                    .topActivities(List.of())
-                    .studentsPerformance(List.of())
-                    .build();
+    // -----------------------
+    // Streaming readers (one per source)
+    // -----------------------
+    static final class EvaluationCounts {
+        int total;
+        int published;
+    }
+
+    static final class ActivityTitles {
+        int total;
+        final Map<Long, String> titleById = new HashMap<>();
+    }
+
+    private static EvaluationCounts readEvaluations(JsonParser p) throws IOException {
+        EvaluationCounts counts = new EvaluationCounts();
+        String[] status = new String[1];
+        JsonRows.forEachObject(p,
+                (field, v) -> {
+                    if ("status".equals(field)) status[0] = JsonRows.text(v);
+                    else v.skipChildren();
+                },
+                () -> {
+                    counts.total++;
+                    if ("PUBLISHED".equalsIgnoreCase(status[0])) counts.published++;
+                    status[0] = null;
+                });
+        return counts;
+    }
+
+    private static ActivityTitles readActivities(JsonParser p) throws IOException {
+        ActivityTitles activities = new ActivityTitles();
+        long[] id = {SubmissionAggregator.NO_ACTIVITY};
+        String[] title = new String[1];
+        JsonRows.forEachObject(p,
+                (field, v) -> {
+                    if ("id".equals(field)) id[0] = JsonRows.longOr(v, SubmissionAggregator.NO_ACTIVITY);
+                    else if ("title".equals(field)) title[0] = JsonRows.text(v);
+                    else v.skipChildren();
+                },
+                () -> {
+                    activities.total++;
+                    if (id[0] != SubmissionAggregator.NO_ACTIVITY && title[0] != null) activities.titleById.put(id[0], title[0]);
+                    id[0] = SubmissionAggregator.NO_ACTIVITY;
+                    title[0] = null;
+                });
+        return activities;
+    }
+
+    @FunctionalInterface
+    interface StreamReader<T> {
+        T read(JsonParser p) throws IOException;
+    }
+
+    /**
+     * Fetch running on upstreamFetchExecutor within its Deadline. CompletableFuture.cancel alone neither interrupts
+     * the worker nor unblocks a socket read: the thread is released by the deadline on the connection (timeouts
+     * capped to the time left) and cancelling also aborts the call, so a queued fetch never connects and a
+     * running one stops at its next read.
+     */
+    static final class UpstreamFetch<T> extends CompletableFuture<T> {
+
+        private final Deadline deadline;
+
+        UpstreamFetch(Deadline deadline) {
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            deadline.abort();
+            return super.cancel(mayInterruptIfRunning);
         }
     }
 
-    private List<JsonNode> fetchDirectData(String url) {
+    private <T> CompletableFuture<T> fetchAsync(String url, long timeoutMs, StreamReader<T> reader) {
+        Deadline deadline = new Deadline(timeoutMs);
+        UpstreamFetch<T> fetch = new UpstreamFetch<>(deadline);
         try {
-            System.out.println("Fetching data from: " + url);
-            String json = doGet(url, null);
-            if (json == null || json.isBlank()) {
-                System.out.println("No data received from: " + url);
-                return List.of();
-            }
-
-            JsonNode root = mapper.readTree(json);
-            if (root == null || !root.isArray()) {
-                System.out.println("Invalid JSON format from: " + url);
-                return List.of();
-            }
+            upstreamFetchExecutor.execute(() -> {
+                if (fetch.isDone()) return; // cancelled while queued
+                try {
+                    fetch.complete(DeadlineRequestFactory.within(deadline, () -> fetchStreaming(url, deadline, reader)));
+                } catch (Throwable e) {
+                    fetch.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            fetch.completeExceptionally(e); // executor saturated: same as an unavailable source
+        }
+        return fetch;
+    }
 
-            List<JsonNode> result = new ArrayList<>();
-            root.forEach(result::add);
-            System.out.println("Successfully fetched " + result.size() + " items from: " + url);
-            return result;
+    // waits until fanOutStart + the source's timeout: the sources were started together, so their deadlines are too.
+    // A source that fails or misses it is added to unavailable and replaced by fallback, and a late call is cancelled;
+    // its fetch thread is back in the pool by the deadline of the call at the latest (see UpstreamFetch).
+    <T> T await(String source, CompletableFuture<T> call, long fanOutStart,
+                List<String> unavailable, Supplier<T> fallback) throws InterruptedException {
+        long timeoutMs = switch (source) {
+            case SOURCE_EVALUATIONS -> evaluationsTimeoutMs;
+            case SOURCE_SUBMISSIONS -> submissionsTimeoutMs;
+            default -> activitiesTimeoutMs;
+        };
+        return await(source, call, fanOutStart, timeoutMs, unavailable, fallback);
+    }
 
-        } catch (Exception e) {
-            System.err.println("Error fetching from " + url + ": " + e.getMessage());
-            return List.of();
+    <T> T await(String source, CompletableFuture<T> call, long fanOutStart, long timeoutMs,
+                List<String> unavailable, Supplier<T> fallback) throws InterruptedException {
+        long remaining = fanOutStart + TimeUnit.MILLISECONDS.toNanos(timeoutMs) - System.nanoTime();
+        try {
+            return call.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            log.warn("Source {} did not answer within {} ms", source, timeoutMs);
+        } catch (ExecutionException e) {
+            log.warn("Source {} failed: {}", source, e.getCause().toString());
         }
+        unavailable.add(source);
+        return fallback.get();
+    }
+
+    // parses the response body as it arrives (no String / JsonNode copy of the payload);
+    // failures propagate to the caller, which reports the source as unavailable
+    private <T> T fetchStreaming(String url, Deadline deadline, StreamReader<T> reader) {
+        log.debug("Fetching data from {}", url);
+        return restTemplate.execute(
+                url,
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> {
+                    try (InputStream body = deadline.guard(response.getBody()); JsonParser p = mapper.getFactory().createParser(body)) {
+                        return reader.read(p);
+                    }
+                }
+        );
     }
 
     // -----------------------
@@ -223,7 +249,7 @@ public class AnalyticsService {
         try {
             return fetchArray(url, authorization);
         } catch (Exception e) {
-            System.err.println("Failed to fetch from " + url + ": " + e.getMessage());
+            log.warn("Failed to fetch from {}: {}", url, e.getMessage());
             return List.of();
         }
     }
@@ -295,40 +321,6 @@ public class AnalyticsService {
         return resp.getBody();
     }
 
-    // -----------------------
-    // JSON helpers
-    // -----------------------
-    private Integer getIntSafe(JsonNode n, String field) {
-        try {
-            JsonNode v = n.get(field);
-            if (v == null || v.isNull()) return null;
-            return v.asInt();
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private Long getLongSafe(JsonNode n, String field) {
-        try {
-            JsonNode v = n.get(field);
-            if (v == null || v.isNull()) return null;
-            return v.asLong();
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private String getTextSafe(JsonNode n, String field) {
-        try {
-            JsonNode v = n.get(field);
-            if (v == null || v.isNull()) return null;
-            String t = v.asText();
-            return (t == null || t.isBlank()) ? null : t;
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
     public String testConnection(String url) {
         try {
             return doGet(url, null);
@@ -0,0 +1,16 @@
+package com.example.grapheservice.service;
+
+import com.example.grapheservice.dto.OverviewResponse;
+
+import java.time.Instant;
+
+/**
+ * Dashboard figures as last published by DashboardSnapshotService. The etag only depends on the figures
+ * (not on generatedAt): a refresh that changes nothing keeps the same overview and etag.
+ * <p>
+ * refreshedAt is the last refresh in which every source answered (null before the first one), whether or not
+ * the figures changed: overview.generatedAt tells when they last changed, refreshedAt until when they are known
+ * to hold. It is served outside the body so that it can move without changing the etag.
+ */
+public record DashboardSnapshot(OverviewResponse overview, String etag, Instant refreshedAt) {
+}
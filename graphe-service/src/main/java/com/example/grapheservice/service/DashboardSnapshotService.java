@@ -0,0 +1,164 @@
+package com.example.grapheservice.service;
+
+import com.example.grapheservice.aggregation.SubmissionAggregator;
+import com.example.grapheservice.aggregation.SubmissionChanges;
+import com.example.grapheservice.dto.OverviewResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static com.example.grapheservice.service.AnalyticsService.*;
+
+/**
+ * Materialized admin dashboard: the overview is rebuilt in the background and requests are served from memory.
+ * <p>
+ * Each refresh re-reads evaluations and activities (small) but only the submissions changed since the
+ * watermark (the latest updatedAt applied, minus an overlap for transactions that committed late);
+ * changed rows replace their previous contribution, so overlapping windows are harmless. A periodic full
+ * rebuild catches what a change query cannot see (deleted submissions, renamed evaluations).
+ * <p>
+ * A source that fails keeps its figures from the previous refresh and the snapshot is flagged stale.
+ */
+@Service
+public class DashboardSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardSnapshotService.class);
+
+    private final AnalyticsService analytics;
+    private final Duration overlap;
+    private final Duration fullRebuildInterval;
+    private final long fullRebuildTimeoutMs;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private volatile DashboardSnapshot current;
+
+    // refresh state, only touched by refresh() (synchronized)
+    private EvaluationCounts evaluations;
+    private SubmissionAggregator submissions;
+    private ActivityTitles activities;
+    private Instant lastFullRebuild;
+
+    public DashboardSnapshotService(
+            AnalyticsService analytics,
+            @Value("${dashboard.snapshot.overlap-ms:30000}") long overlapMs,
+            @Value("${dashboard.snapshot.full-rebuild-interval-ms:3600000}") long fullRebuildIntervalMs,
+            @Value("${dashboard.snapshot.full-rebuild-timeout-ms:60000}") long fullRebuildTimeoutMs
+    ) {
+        this.analytics = analytics;
+        this.overlap = Duration.ofMillis(overlapMs);
+        this.fullRebuildInterval = Duration.ofMillis(fullRebuildIntervalMs);
+        this.fullRebuildTimeoutMs = fullRebuildTimeoutMs;
+    }
+
+    /**
+     * Last published snapshot, empty until the first refresh has completed. That one runs at startup; requests
+     * never build it themselves, so none waits on (or queues behind) the first full rebuild.
+     */
+    public Optional<DashboardSnapshot> current() {
+        return Optional.ofNullable(current);
+    }
+
+    // first run as soon as the application has started, then refresh-interval-ms after the previous one ended
+    @Scheduled(initialDelay = 0, fixedDelayString = "${dashboard.snapshot.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Dashboard refresh failed, serving the previous snapshot", e);
+        }
+    }
+
+    public synchronized void refresh() {
+        Instant now = Instant.now();
+        boolean full = submissions == null || submissions.lastChange() == null
+                || !now.isBefore(lastFullRebuild.plus(fullRebuildInterval));
+
+        long fanOutStart = System.nanoTime();
+        CompletableFuture<EvaluationCounts> evaluationsCall = analytics.fetchEvaluations();
+        CompletableFuture<ActivityTitles> activitiesCall = analytics.fetchActivities();
+        // changed rows are only buffered on the fetch thread: the aggregator is updated here, after the deadline
+        CompletableFuture<SubmissionAggregator> rebuildCall = full
+                ? analytics.fetchSubmissions("", fullRebuildTimeoutMs, SubmissionAggregator::incrementalFrom) : null;
+        CompletableFuture<SubmissionChanges> changesCall = full
+                ? null : analytics.fetchSubmissions("?changedSince=" + submissions.lastChange().minus(overlap), SubmissionChanges::read);
+
+        List<String> unavailable = new ArrayList<>();
+        boolean[] carriedOver = {false}; // a failed source kept figures from the previous refresh
+        try {
+            EvaluationCounts previousEvaluations = evaluations;
+            evaluations = analytics.await(SOURCE_EVALUATIONS, evaluationsCall, fanOutStart, unavailable,
+                    () -> carryOver(previousEvaluations, carriedOver, EvaluationCounts::new));
+            ActivityTitles previousActivities = activities;
+            activities = analytics.await(SOURCE_ACTIVITIES, activitiesCall, fanOutStart, unavailable,
+                    () -> carryOver(previousActivities, carriedOver, ActivityTitles::new));
+
+            if (full) {
+                // every submission: longer deadline than an interactive request, nobody waits on it
+                SubmissionAggregator rebuilt = analytics.await(SOURCE_SUBMISSIONS, rebuildCall, fanOutStart, fullRebuildTimeoutMs,
+                        unavailable, () -> null);
+                if (rebuilt != null) {
+                    submissions = rebuilt;
+                    lastFullRebuild = now;
+                } else {
+                    submissions = carryOver(submissions, carriedOver, SubmissionAggregator::incremental);
+                }
+            } else {
+                SubmissionChanges changes = analytics.await(SOURCE_SUBMISSIONS, changesCall, fanOutStart, unavailable, () -> null);
+                if (changes != null) submissions.apply(changes);
+                else carriedOver[0] = true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        publish(analytics.overview(evaluations, submissions, activities, unavailable), carriedOver[0],
+                unavailable.isEmpty() ? now : null);
+    }
+
+    private static <T> T carryOver(T previous, boolean[] carriedOver, Supplier<T> empty) {
+        if (previous == null) return empty.get();
+        carriedOver[0] = true;
+        return previous;
+    }
+
+    // refreshedAt: null when some source failed, the previous snapshot's value is kept then
+    private void publish(OverviewResponse overview, boolean stale, Instant refreshedAt) {
+        overview.setStale(stale);
+        String generatedAt = overview.getGeneratedAt();
+        overview.setGeneratedAt(null);
+        String etag = "\"" + DigestUtils.md5DigestAsHex(json(overview)) + "\"";
+
+        DashboardSnapshot previous = current;
+        if (refreshedAt == null && previous != null) refreshedAt = previous.refreshedAt();
+        if (previous != null && previous.etag().equals(etag)) {
+            // same figures: same body and etag (generatedAt included), only the refresh time moves
+            current = new DashboardSnapshot(previous.overview(), etag, refreshedAt);
+            return;
+        }
+
+        overview.setGeneratedAt(generatedAt);
+        current = new DashboardSnapshot(overview, etag, refreshedAt);
+    }
+
+    private byte[] json(OverviewResponse overview) {
+        try {
+            return mapper.writeValueAsBytes(overview);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
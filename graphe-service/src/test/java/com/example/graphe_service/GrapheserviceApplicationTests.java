@@ -1,9 +1,10 @@
 package com.example.graphe_service;
 
+import com.example.grapheservice.GrapheserviceApplication;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(classes = GrapheserviceApplication.class) // not in a sub-package of the application
 class GrapheserviceApplicationTests {
 
 	@Test
@@ -0,0 +1,28 @@
+package com.example.grapheservice.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LongIndexTest {
+
+    @Test
+    void keysAreNumberedInFirstSeenOrderAcrossRehashes() {
+        LongIndex index = new LongIndex();
+        // consecutive ids, negative ids and keys colliding on the low bits
+        long[] keys = new long[1_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = switch (i % 3) {
+                case 0 -> i;
+                case 1 -> -i;
+                default -> (long) i << 32;
+            };
+        }
+
+        for (int i = 0; i < keys.length; i++) assertEquals(i, index.getOrAdd(keys[i]));
+        for (int i = keys.length - 1; i >= 0; i--) assertEquals(i, index.getOrAdd(keys[i]));
+
+        assertEquals(keys.length, index.size());
+        for (int i = 0; i < keys.length; i++) assertEquals(keys[i], index.key(i));
+    }
+}
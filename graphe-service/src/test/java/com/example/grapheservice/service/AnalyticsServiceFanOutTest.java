@@ -0,0 +1,139 @@
+package com.example.grapheservice.service;
+
+import com.example.grapheservice.config.DeadlineRequestFactory;
+import com.example.grapheservice.dto.OverviewResponse;
+import com.example.grapheservice.service.StubUpstreams.Reply;
+import org.junit.jupiter.api.AfterEach;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalyticsServiceFanOutTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void latencyIsTheSlowestSourceNotTheSum() {
+        AnalyticsService service = service(Map.of(
+                "/api/v1/evaluations", new Reply(400, "[{\"status\":\"PUBLISHED\"}]"),
+                "/api/v1/submissions", new Reply(400, "[{\"status\":\"SUBMITTED\",\"score\":80,\"studentFullName\":\"A\",\"activityId\":1}]"),
+                "/api/v1/activities", new Reply(400, "[{\"id\":1,\"title\":\"Java\"}]")
+        ));
+
+        long t0 = System.nanoTime();
+        OverviewResponse overview = refresh(service);
+        long elapsedMs = (System.nanoTime() - t0) / 1_000_000;
+
+        assertTrue(elapsedMs < 1000, "sequential would be >= 1200 ms, was " + elapsedMs);
+        assertFalse(overview.isPartial());
+        assertEquals(List.of(), overview.getUnavailableSources());
+        assertEquals(1, overview.getPublishedEvaluations());
+        assertEquals(1, overview.getSubmittedCount());
+        assertEquals("Java", overview.getTopActivities().get(0).getActivityTitle());
+    }
+
+    @Test
+    void slowOrFailingSourcesAreFlaggedAndTheRestIsServed() {
+        AnalyticsService service = service(Map.of(
+                "/api/v1/evaluations", new Reply(0, "[{\"status\":\"PUBLISHED\"},{\"status\":\"DRAFT\"}]"),
+                "/api/v1/submissions", new Reply(0, null), // throws
+                "/api/v1/activities", new Reply(3_000, "[]")
+        ));
+
+        long t0 = System.nanoTime();
+        OverviewResponse overview = refresh(service);
+        long elapsedMs = (System.nanoTime() - t0) / 1_000_000;
+
+        assertTrue(elapsedMs < 2000, "activities deadline is 500 ms, was " + elapsedMs);
+        assertTrue(overview.isPartial());
+        assertEquals(List.of(AnalyticsService.SOURCE_ACTIVITIES, AnalyticsService.SOURCE_SUBMISSIONS),
+                overview.getUnavailableSources());
+        assertEquals(2, overview.getTotalEvaluations());
+        assertEquals(0, overview.getTotalSubmissions());
+        assertFalse(overview.isStale()); // first refresh: nothing to carry over, the missing sources count as empty
+    }
+
+    @Test
+    void lateSourceIsAbortedAndGivesItsFetchThreadBack() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/v1/submissions", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream body = exchange.getResponseBody();
+            body.write('[');
+            body.flush();
+            try {
+                release.await(30, TimeUnit.SECONDS); // the rest of the body never comes
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.createContext("/api/v1/evaluations", exchange -> {
+            byte[] body = "[{\"status\":\"PUBLISHED\"}]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        ExecutorService oneThread = Executors.newSingleThreadExecutor();
+        try {
+            DeadlineRequestFactory factory = new DeadlineRequestFactory();
+            factory.setReadTimeout(30_000);
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            AnalyticsService service = StubUpstreams.analyticsService(new RestTemplate(factory), baseUrl, baseUrl, oneThread);
+
+            long fanOutStart = System.nanoTime();
+            CompletableFuture<String> stuck = service.fetchSubmissions("", 500, p -> {
+                while (p.nextToken() != null) {
+                    // drain
+                }
+                return "read";
+            });
+            List<String> unavailable = new ArrayList<>();
+            assertNull(service.await(AnalyticsService.SOURCE_SUBMISSIONS, stuck, fanOutStart, 500, unavailable, () -> null));
+            assertEquals(List.of(AnalyticsService.SOURCE_SUBMISSIONS), unavailable);
+
+            // the only fetch thread was blocked on the stuck body: it is free again at the deadline, not after the 30 s read timeout
+            AnalyticsService.EvaluationCounts counts = service.fetchEvaluations().get(2, TimeUnit.SECONDS);
+            assertEquals(1, counts.published);
+            assertTrue(System.nanoTime() - fanOutStart < TimeUnit.SECONDS.toNanos(3));
+        } finally {
+            release.countDown();
+            oneThread.shutdownNow();
+            server.stop(0);
+        }
+    }
+
+    private AnalyticsService service(Map<String, Reply> replies) {
+        return StubUpstreams.analyticsService(replies, executor);
+    }
+
+    // first refresh of a dashboard: every source fetched, submissions in full
+    static OverviewResponse refresh(AnalyticsService service) {
+        DashboardSnapshotService snapshots = new DashboardSnapshotService(service, 30_000, 3_600_000, 1_000);
+        snapshots.refresh();
+        return snapshots.current().orElseThrow().overview();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.grapheservice.service;
+
+import com.example.grapheservice.controller.AnalyticsController;
+import com.example.grapheservice.dto.OverviewResponse;
+import com.example.grapheservice.service.StubUpstreams.Reply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class DashboardSnapshotServiceTest {
+
+    private static final String EVALUATIONS = "[{\"status\":\"PUBLISHED\"},{\"status\":\"DRAFT\"}]";
+    private static final String ACTIVITIES = "[{\"id\":10,\"title\":\"Java\"}]";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+    private final Map<String, Reply> replies = new ConcurrentHashMap<>();
+    private final List<String> requested = new ArrayList<>();
+    private final DashboardSnapshotService snapshots = new DashboardSnapshotService(
+            StubUpstreams.analyticsService(replies, executor, requested), 30_000, 3_600_000, 1_000);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void changedSubmissionsReplaceTheirPreviousContribution() {
+        upstreams("""
+                [{"submissionId":1,"studentFullName":"Alice","activityId":10,"status":"IN_PROGRESS","score":null,"updatedAt":"2025-03-01T10:00:00Z"},
+                 {"submissionId":2,"studentFullName":"Bob","activityId":10,"status":"SUBMITTED","score":40,"updatedAt":"2025-03-01T10:00:05.5Z"}]
+                """);
+        snapshots.refresh();
+        OverviewResponse first = current().overview();
+        assertEquals(2, first.getTotalSubmissions());
+        assertEquals(1, first.getInProgressCount());
+
+        // Alice submits, Carol starts
+        upstreams("""
+                [{"submissionId":1,"studentFullName":"Alice","activityId":10,"status":"SUBMITTED","score":90,"updatedAt":"2025-03-01T10:01:00Z"},
+                 {"submissionId":3,"studentFullName":"Carol","activityId":10,"status":"IN_PROGRESS","score":null,"updatedAt":"2025-03-01T10:01:00Z"}]
+                """);
+        snapshots.refresh();
+
+        // watermark = latest updatedAt seen, minus the overlap
+        assertTrue(requested.get(requested.size() - 1).endsWith("/api/v1/submissions?changedSince=2025-03-01T09:59:35.500Z"),
+                requested.toString());
+        OverviewResponse o = current().overview();
+        assertEquals(3, o.getTotalSubmissions());
+        assertEquals(2, o.getSubmittedCount());
+        assertEquals(1, o.getInProgressCount());
+        assertEquals(3, o.getTotalStudents());
+        assertEquals(List.of(0, 1, 0, 0, 1),
+                o.getScoreDistribution().stream().map(OverviewResponse.ScoreDistributionItem::getCount).toList());
+        assertEquals(3, o.getTopActivities().get(0).getSubmissionsCount());
+        assertEquals(65.0, o.getTopActivities().get(0).getAvgScore());
+        assertFalse(o.isStale());
+
+        // the same changes again (overlapping window): nothing moves, same body and ETag, only the refresh time
+        DashboardSnapshot before = current();
+        snapshots.refresh();
+        DashboardSnapshot after = current();
+        assertSame(before.overview(), after.overview());
+        assertEquals(before.etag(), after.etag());
+        assertTrue(after.refreshedAt().isAfter(before.refreshedAt()));
+    }
+
+    @Test
+    void failedSourceKeepsItsPreviousFiguresAndFlagsTheSnapshotStale() {
+        upstreams("[{\"submissionId\":1,\"studentFullName\":\"Alice\",\"status\":\"SUBMITTED\",\"score\":70,\"updatedAt\":\"2025-03-01T10:00:00Z\"}]");
+        snapshots.refresh();
+        DashboardSnapshot fresh = current();
+
+        replies.put("/api/v1/evaluations", new Reply(0, null));
+        snapshots.refresh();
+
+        DashboardSnapshot stale = current();
+        assertNotEquals(fresh.etag(), stale.etag());
+        assertTrue(stale.overview().isStale());
+        assertEquals(List.of(AnalyticsService.SOURCE_EVALUATIONS), stale.overview().getUnavailableSources());
+        assertEquals(2, stale.overview().getTotalEvaluations());
+        assertEquals(1, stale.overview().getTotalSubmissions());
+        assertEquals(fresh.refreshedAt(), stale.refreshedAt()); // last refresh in which every source answered
+    }
+
+    @Test
+    void dashboardAnswers304WhileTheSnapshotIsUnchanged() throws Exception {
+        upstreams("[]");
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new AnalyticsController(null, snapshots)).build();
+
+        // nothing built yet (the first refresh runs at startup): requests do not build it themselves
+        mvc.perform(get("/api/v1/graphes/dashboard"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
+        assertTrue(requested.isEmpty());
+
+        snapshots.refresh();
+        String etag = current().etag();
+        mvc.perform(get("/api/v1/graphes/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().string(AnalyticsController.REFRESHED_AT, current().refreshedAt().toString()));
+
+        snapshots.refresh();
+        mvc.perform(get("/api/v1/graphes/dashboard").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(AnalyticsController.REFRESHED_AT, current().refreshedAt().toString()));
+    }
+
+    private DashboardSnapshot current() {
+        return snapshots.current().orElseThrow();
+    }
+
+    private void upstreams(String submissions) {
+        replies.put("/api/v1/evaluations", new Reply(0, EVALUATIONS));
+        replies.put("/api/v1/activities", new Reply(0, ACTIVITIES));
+        replies.put("/api/v1/submissions", new Reply(0, submissions));
+    }
+}
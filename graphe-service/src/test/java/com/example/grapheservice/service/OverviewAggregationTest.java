@@ -0,0 +1,76 @@
+package com.example.grapheservice.service;
+
+import com.example.grapheservice.dto.OverviewResponse;
+import com.example.grapheservice.service.StubUpstreams.Reply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Figures computed from streamed upstream rows, including the loosely typed values the tree parsing accepted. */
+class OverviewAggregationTest {
+
+    private static final String SUBMISSIONS = """
+            [
+              {"submissionId":1,"status":"SUBMITTED","score":90,"studentFullName":"Alice","activityId":10,"extra":{"nested":[1,2,{"score":0}]}},
+              {"submissionId":2,"status":"SUBMITTED","score":"30","studentFullName":"Alice","activityId":10},
+              {"submissionId":3,"status":"IN_PROGRESS","score":null,"studentFullName":"Alice","activityId":20},
+              {"submissionId":4,"status":"submitted","score":40,"studentFullName":"Bob","activityId":"20"},
+              {"submissionId":5,"status":"SUBMITTED","score":20,"studentFullName":"  ","activityId":null},
+              {"submissionId":6,"status":"IN_PROGRESS","studentFullName":"Carol"}
+            ]
+            """;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void submissionsAreAggregatedWhileStreaming() {
+        OverviewResponse o = AnalyticsServiceFanOutTest.refresh(StubUpstreams.analyticsService(Map.of(
+                "/api/v1/evaluations", new Reply(0, "[{\"status\":\"PUBLISHED\"},{\"status\":\"DRAFT\"},{\"title\":\"no status\"}]"),
+                "/api/v1/submissions", new Reply(0, SUBMISSIONS),
+                "/api/v1/activities", new Reply(0, "[{\"id\":10,\"title\":\"Java\"},{\"id\":30,\"title\":\"SQL\"}]")
+        ), executor));
+
+        assertFalse(o.isPartial());
+        assertEquals(3, o.getTotalEvaluations());
+        assertEquals(1, o.getPublishedEvaluations());
+        assertEquals(2, o.getTotalActivities());
+
+        assertEquals(6, o.getTotalSubmissions());
+        assertEquals(4, o.getSubmittedCount());
+        assertEquals(2, o.getInProgressCount());
+        assertEquals(3, o.getTotalStudents()); // blank name ignored
+
+        // 90, 30, 40, 20 (nested "score" inside "extra" is not a row field)
+        assertEquals(List.of(1, 2, 0, 0, 1),
+                o.getScoreDistribution().stream().map(OverviewResponse.ScoreDistributionItem::getCount).toList());
+
+        OverviewResponse.StudentPerformanceItem alice = o.getStudentsPerformance().get(0);
+        assertEquals("Alice", alice.getStudentName());
+        assertEquals(3, alice.getSubmissionsCount());
+        assertEquals(60.0, alice.getAvgScore());
+        assertEquals(30, alice.getLastScore());
+        assertFalse(alice.isAtRisk());
+
+        OverviewResponse.StudentPerformanceItem bob = o.getStudentsPerformance().get(1);
+        assertTrue(bob.isAtRisk());
+        assertEquals(1, o.getAtRiskStudentsCount()); // Carol has no score yet: avg 0, not at risk
+
+        // "20" as a string id still groups with activity 20; unknown titles fall back to the id
+        assertEquals(List.of("Java", "Activity 20"),
+                o.getTopActivities().stream().map(OverviewResponse.TopActivityItem::getActivityTitle).toList());
+        assertEquals(2, o.getTopActivities().get(1).getSubmissionsCount());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.grapheservice.service;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/** AnalyticsService wired to canned upstream responses keyed by path (/api/v1/...). */
+final class StubUpstreams {
+
+    record Reply(long delayMs, String body) {
+    }
+
+    private StubUpstreams() {
+    }
+
+    static AnalyticsService analyticsService(Map<String, Reply> replies, ExecutorService executor) {
+        return analyticsService(replies, executor, new ArrayList<>());
+    }
+
+    /** replies are looked up by path without the query string; requested receives every URL called. */
+    static AnalyticsService analyticsService(Map<String, Reply> replies, ExecutorService executor, List<String> requested) {
+        RestTemplate rest = new RestTemplate() {
+            @Override
+            public <T> T execute(String url, HttpMethod method, RequestCallback callback,
+                                 ResponseExtractor<T> extractor, Object... uriVariables) {
+                synchronized (requested) {
+                    requested.add(url);
+                }
+                String path = url.substring(url.indexOf("/api/")).split("\\?")[0];
+                Reply reply = replies.get(path);
+                try {
+                    Thread.sleep(reply.delayMs());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (reply.body() == null) throw new RestClientException("upstream down");
+                try {
+                    return extractor.extractData(new MockClientHttpResponse(
+                            reply.body().getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+                } catch (IOException e) {
+                    throw new RestClientException("read failed", e);
+                }
+            }
+        };
+
+        return analyticsService(rest, "http://evaluation", "http://activity", executor);
+    }
+
+    /** AnalyticsService calling real upstreams through rest, with the stub deadlines. */
+    static AnalyticsService analyticsService(RestTemplate rest, String evaluationBaseUrl, String activityBaseUrl,
+                                             ExecutorService executor) {
+        AnalyticsService service = new AnalyticsService(rest, executor);
+        ReflectionTestUtils.setField(service, "evaluationBaseUrl", evaluationBaseUrl);
+        ReflectionTestUtils.setField(service, "activityBaseUrl", activityBaseUrl);
+        ReflectionTestUtils.setField(service, "evaluationsTimeoutMs", 1_000L);
+        ReflectionTestUtils.setField(service, "submissionsTimeoutMs", 1_000L);
+        ReflectionTestUtils.setField(service, "activitiesTimeoutMs", 500L);
+        return service;
+    }
+}
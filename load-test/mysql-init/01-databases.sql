@@ -0,0 +1,3 @@
+-- databases of the services under test (auth-service does not create its own)
+CREATE DATABASE IF NOT EXISTS sys_auth;
+CREATE DATABASE IF NOT EXISTS sys_evaluations;
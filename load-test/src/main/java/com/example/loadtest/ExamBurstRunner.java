@@ -0,0 +1,228 @@
+package com.example.loadtest;
+
+import com.example.loadtest.GatewayClient.GatewayException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exam burst through the gateway: N virtual students (one virtual thread each) arrive over the ramp and do
+ * login -> GET /published -> POST /start -> POST /submit, with an optional common submit deadline.
+ * Seeding (evaluations, student accounts) happens before and is not measured.
+ */
+@Component
+public class ExamBurstRunner implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ExamBurstRunner.class);
+
+    static final String TITLE_PREFIX = "[load-test] ";
+    static final String LOGIN = "login";
+    static final String PUBLISHED = "published";
+    static final String START = "start";
+    static final String SUBMIT = "submit";
+
+    private static final List<String> OPTIONS = List.of("a", "b", "c", "d");
+    private static final DateTimeFormatter RUN_TS = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final LoadTestProperties props;
+    private final ObjectMapper objectMapper;
+
+    public ExamBurstRunner(LoadTestProperties props, ObjectMapper objectMapper) {
+        this.props = props;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        execute();
+    }
+
+    /** Runs the whole scenario and writes the report; returns the recorder for callers that inspect it. */
+    public LatencyRecorder execute() throws Exception {
+        String runId = props.getLabel() + "-" + LocalDateTime.now().format(RUN_TS);
+        LatencyRecorder recorder = new LatencyRecorder();
+        GatewayClient gateway = new GatewayClient(props.getGatewayUrl(), props.getRequestTimeout(), objectMapper, recorder);
+
+        List<Long> evaluationIds = seedEvaluations(gateway);
+        log.info("Evaluations under test: {}", evaluationIds);
+
+        Duration elapsed;
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            registerStudents(gateway, threads);
+            elapsed = burst(gateway, threads, evaluationIds, runId);
+        }
+
+        System.out.printf("%nRun %s: %d students, concurrency %d, ramp-up %s, exam duration %s, elapsed %s%n%n",
+                runId, props.getStudents(), props.getConcurrency(), props.getRampUp(), props.getExamDuration(), elapsed);
+        recorder.printSummary(System.out, elapsed);
+
+        Path dir = props.getReportDir().resolve(runId);
+        recorder.writeReport(dir, elapsed);
+        log.info("Report written to {}", dir.toAbsolutePath());
+        return recorder;
+    }
+
+    private Duration burst(GatewayClient gateway, ExecutorService threads, List<Long> evaluationIds, String runId)
+            throws InterruptedException {
+        int students = props.getStudents();
+        Semaphore inFlight = new Semaphore(props.getConcurrency());
+        CountDownLatch done = new CountDownLatch(students);
+        LongAdder failed = new LongAdder();
+
+        long t0 = System.nanoTime();
+        long rampNanos = props.getRampUp().toNanos();
+        long closeAt = props.getExamDuration().isZero() ? 0 : t0 + rampNanos + props.getExamDuration().toNanos();
+
+        for (int i = 0; i < students; i++) {
+            sleepUntil(t0 + rampNanos * i / students);
+            inFlight.acquire();
+            int student = i;
+            threads.execute(() -> {
+                try {
+                    sitExam(gateway, student, evaluationIds, runId, closeAt);
+                } catch (GatewayException e) {
+                    failed.increment();
+                    log.debug("Student {} stopped: {}", student, e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.release();
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+
+        if (failed.sum() > 0) log.warn("{} of {} students did not finish (see errors per endpoint)", failed.sum(), students);
+        return Duration.ofNanos(System.nanoTime() - t0);
+    }
+
+    private void sitExam(GatewayClient gateway, int student, List<Long> evaluationIds, String runId, long closeAt)
+            throws InterruptedException {
+        JsonNode auth = gateway.post(LOGIN, "/auth/login",
+                Map.of("email", email(student), "password", props.getPassword()), Map.of());
+        long studentId = auth.path("id").asLong();
+        Map<String, String> bearer = Map.of("Authorization", "Bearer " + auth.path("token").asText());
+
+        gateway.get(PUBLISHED, "/api/v1/evaluations/published", bearer);
+
+        long evaluationId = evaluationIds.get(student % evaluationIds.size());
+        Map<String, String> startHeaders = new HashMap<>(bearer);
+        startHeaders.put("Idempotency-Key", runId + "-" + student);
+        JsonNode started = gateway.post(START, "/api/v1/evaluations/" + evaluationId + "/start", Map.of(
+                "studentId", studentId,
+                "studentFullName", auth.path("fullName").asText("Student " + student),
+                "studentLevel", "L1"
+        ), startHeaders);
+
+        List<Map<String, Object>> answers = new ArrayList<>();
+        for (JsonNode q : started.path("questions")) {
+            JsonNode options = q.path("options");
+            if (options.isEmpty()) continue;
+            String chosen = options.get(ThreadLocalRandom.current().nextInt(options.size())).asText();
+            answers.add(Map.of("questionId", q.path("id").asLong(), "chosenAnswer", chosen));
+        }
+
+        if (closeAt > 0) sleepUntil(closeAt); // exam-close burst: everybody hands in at the deadline
+
+        Map<String, String> submitHeaders = new HashMap<>(bearer);
+        if (props.isAsyncSubmit()) submitHeaders.put("Prefer", "respond-async");
+        gateway.post(SUBMIT, "/api/v1/submissions/" + started.path("submissionId").asLong() + "/submit",
+                Map.of("studentId", studentId, "answers", answers), submitHeaders);
+    }
+
+    // -------------------- SEEDING (not measured) --------------------
+
+    private List<Long> seedEvaluations(GatewayClient gateway) {
+        LoadTestProperties.Seed seed = props.getSeed();
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode e : gateway.get(null, "/api/v1/evaluations/published", Map.of())) {
+            if (e.path("title").asText().startsWith(TITLE_PREFIX) && e.path("questionsCount").asInt() == seed.getQuestions()) {
+                ids.add(e.path("id").asLong());
+            }
+        }
+        while (ids.size() < seed.getEvaluations()) {
+            ids.add(createEvaluation(gateway, ids.size() + 1));
+        }
+        return List.copyOf(ids.subList(0, seed.getEvaluations()));
+    }
+
+    private long createEvaluation(GatewayClient gateway, int number) {
+        LoadTestProperties.Seed seed = props.getSeed();
+        long id = gateway.post(null, "/api/v1/evaluations", Map.of(
+                "title", TITLE_PREFIX + "Exam " + number + " (" + seed.getQuestions() + " questions)",
+                "prerequisiteLevel", "BEGINNER",
+                "activityId", seed.getActivityId(),
+                "introduction", "Generated by the load-test module."
+        ), Map.of()).path("id").asLong();
+
+        for (int q = 1; q <= seed.getQuestions(); q++) {
+            gateway.post(null, "/api/v1/evaluations/" + id + "/questions", Map.of(
+                    "label", "Question " + q,
+                    "options", OPTIONS,
+                    "correctAnswer", OPTIONS.get(q % OPTIONS.size()),
+                    "weight", 1
+            ), Map.of());
+        }
+        gateway.put(null, "/api/v1/evaluations/" + id + "/publish", Map.of("published", true), Map.of());
+        log.info("Seeded evaluation {} with {} questions", id, seed.getQuestions());
+        return id;
+    }
+
+    // register is not idempotent: an existing account answers with an error, which is fine here
+    private void registerStudents(GatewayClient gateway, ExecutorService threads) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(props.getConcurrency());
+        CountDownLatch done = new CountDownLatch(props.getStudents());
+        LongAdder created = new LongAdder();
+
+        for (int i = 0; i < props.getStudents(); i++) {
+            inFlight.acquire();
+            int student = i;
+            threads.execute(() -> {
+                try {
+                    gateway.post(null, "/auth/register", Map.of(
+                            "email", email(student),
+                            "password", props.getPassword(),
+                            "fullName", "Load Student " + student
+                    ), Map.of());
+                    created.increment();
+                } catch (GatewayException alreadyRegistered) {
+                    // login will tell if the account is really missing
+                } finally {
+                    inFlight.release();
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        log.info("Registered {} new students ({} requested)", created.sum(), props.getStudents());
+    }
+
+    private String email(int student) {
+        return props.getEmailPrefix() + student + "@skillflow.test";
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long wait = nanoTime - System.nanoTime();
+        if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+    }
+}
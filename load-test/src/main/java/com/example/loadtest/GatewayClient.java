@@ -0,0 +1,89 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * JSON calls through the gateway. Calls made with an endpoint name are timed into the recorder
+ * (failures counted as errors); calls with a null endpoint (seeding) are not measured.
+ */
+public class GatewayClient {
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+
+    public GatewayClient(String baseUrl, Duration timeout, ObjectMapper objectMapper, LatencyRecorder recorder) {
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1) // what the browser front end talks to the gateway
+                .connectTimeout(timeout)
+                .build();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.timeout = timeout;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    public JsonNode get(String endpoint, String path, Map<String, String> headers) {
+        return send(endpoint, "GET", path, null, headers);
+    }
+
+    public JsonNode post(String endpoint, String path, Object body, Map<String, String> headers) {
+        return send(endpoint, "POST", path, body, headers);
+    }
+
+    public JsonNode put(String endpoint, String path, Object body, Map<String, String> headers) {
+        return send(endpoint, "PUT", path, body, headers);
+    }
+
+    private JsonNode send(String endpoint, String method, String path, Object body, Map<String, String> headers) {
+        HttpRequest.Builder req = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+        headers.forEach(req::header);
+        try {
+            if (body == null) {
+                req.method(method, HttpRequest.BodyPublishers.noBody());
+            } else {
+                req.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            }
+
+            long t0 = System.nanoTime();
+            HttpResponse<byte[]> res = http.send(req.build(), HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - t0;
+
+            if (res.statusCode() / 100 != 2) {
+                throw new GatewayException(method + " " + path + " -> HTTP " + res.statusCode());
+            }
+            if (endpoint != null) recorder.record(endpoint, elapsed);
+            return res.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(res.body());
+        } catch (IOException | GatewayException e) {
+            if (endpoint != null) recorder.error(endpoint);
+            throw e instanceof GatewayException ge ? ge : new GatewayException(method + " " + path + " -> " + e, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GatewayException(method + " " + path + " interrupted", e);
+        }
+    }
+
+    public static class GatewayException extends RuntimeException {
+        public GatewayException(String message) {
+            super(message);
+        }
+
+        public GatewayException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
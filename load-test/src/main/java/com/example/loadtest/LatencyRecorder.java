@@ -0,0 +1,87 @@
+package com.example.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One HDR histogram (microseconds, 3 significant digits) and one error counter per endpoint.
+ * Only successful calls are recorded in the histograms.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final double MICROS_PER_MS = 1000.0;
+
+    // sorted so the report lists endpoints in a stable order
+    private final Map<String, Histogram> histograms = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long nanos) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS);
+        histogram(endpoint).recordValue(micros);
+    }
+
+    public void error(String endpoint) {
+        histogram(endpoint); // endpoint shows up in the report even if every call failed
+        errors.computeIfAbsent(endpoint, e -> new LongAdder()).increment();
+    }
+
+    public long count(String endpoint) {
+        Histogram h = histograms.get(endpoint);
+        return h == null ? 0 : h.getTotalCount();
+    }
+
+    public long errors(String endpoint) {
+        LongAdder e = errors.get(endpoint);
+        return e == null ? 0 : e.sum();
+    }
+
+    public void printSummary(PrintStream out, Duration elapsed) {
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        out.printf(Locale.ROOT, "%-10s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "ok", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        histograms.forEach((endpoint, h) -> out.printf(Locale.ROOT, "%-10s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, h.getTotalCount(), errors(endpoint), h.getTotalCount() / seconds,
+                ms(h, 50), ms(h, 90), ms(h, 99), ms(h, 99.9), h.getMaxValue() / MICROS_PER_MS));
+    }
+
+    /**
+     * summary.csv plus one percentile distribution per endpoint (&lt;endpoint&gt;.hgrm, values in ms),
+     * which the HdrHistogram plotter can overlay to compare two runs.
+     */
+    public void writeReport(Path dir, Duration elapsed) throws IOException {
+        Files.createDirectories(dir);
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(dir.resolve("summary.csv")))) {
+            csv.println("endpoint,ok,errors,p50_ms,p90_ms,p99_ms,p99_9_ms,max_ms,elapsed_ms");
+            histograms.forEach((endpoint, h) -> csv.printf(Locale.ROOT, "%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%d%n",
+                    endpoint, h.getTotalCount(), errors(endpoint),
+                    ms(h, 50), ms(h, 90), ms(h, 99), ms(h, 99.9), h.getMaxValue() / MICROS_PER_MS, elapsed.toMillis()));
+        }
+        for (Map.Entry<String, Histogram> e : histograms.entrySet()) {
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(dir.resolve(e.getKey() + ".hgrm")))) {
+                e.getValue().outputPercentileDistribution(hgrm, MICROS_PER_MS);
+            }
+        }
+    }
+
+    private Histogram histogram(String endpoint) {
+        return histograms.computeIfAbsent(endpoint, e -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+    }
+
+    private static double ms(Histogram h, double percentile) {
+        return h.getValueAtPercentile(percentile) / MICROS_PER_MS;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Scenario knobs (loadtest.* in application.yml, or --loadtest.students=2000 on the command line).
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+    private String gatewayUrl = "http://localhost:8888";
+
+    /** Virtual students, each doing login -> published -> start -> submit once. */
+    private int students = 500;
+
+    /** Students in flight at most; the ramp waits when the cap is reached. */
+    private int concurrency = 200;
+
+    /** Student arrivals are spread linearly over this window (0 = everybody at once). */
+    private Duration rampUp = Duration.ofSeconds(30);
+
+    /**
+     * 0: each student submits right after start.
+     * > 0: everybody submits together at rampUp + examDuration (exam-close burst).
+     */
+    private Duration examDuration = Duration.ZERO;
+
+    private Duration requestTimeout = Duration.ofSeconds(30);
+
+    /** Submit with "Prefer: respond-async" (202 + queue) instead of the synchronous 200. */
+    private boolean asyncSubmit = false;
+
+    private String emailPrefix = "loadtest-student-";
+    private String password = "LoadTest-2025";
+
+    /** Names the report directory, e.g. the git revision of the services under test. */
+    private String label = "run";
+    private Path reportDir = Path.of("target", "load-test");
+
+    private Seed seed = new Seed();
+
+    @Getter @Setter
+    public static class Seed {
+        /** Published "[load-test]" evaluations the students are spread over (created when missing). */
+        private int evaluations = 3;
+        private int questions = 20;
+        private long activityId = 1;
+    }
+}
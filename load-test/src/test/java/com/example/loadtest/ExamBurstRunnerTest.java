@@ -0,0 +1,120 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Runs the scenario against a stub gateway and checks what ends up in the report. */
+class ExamBurstRunnerTest {
+
+    private static final int STUDENTS = 30;
+
+    @TempDir Path reportDir;
+
+    private HttpServer gateway;
+    private final AtomicInteger published = new AtomicInteger(); // seeding evaluations: create, then list it
+    private final AtomicInteger nextSubmission = new AtomicInteger();
+
+    @BeforeEach
+    void startStub() throws IOException {
+        gateway = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        gateway.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        gateway.createContext("/", this::handle);
+        gateway.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        gateway.stop(0);
+    }
+
+    @Test
+    void everyStudentGoesThroughTheFourMeasuredCalls() throws Exception {
+        LatencyRecorder recorder = new ExamBurstRunner(properties(), new ObjectMapper()).execute();
+
+        for (String endpoint : new String[]{ExamBurstRunner.LOGIN, ExamBurstRunner.PUBLISHED, ExamBurstRunner.START}) {
+            assertEquals(STUDENTS, recorder.count(endpoint), endpoint);
+            assertEquals(0, recorder.errors(endpoint), endpoint);
+        }
+        // every 10th submit is rejected by the stub: counted as error, not in the histogram
+        assertEquals(STUDENTS - 3, recorder.count(ExamBurstRunner.SUBMIT));
+        assertEquals(3, recorder.errors(ExamBurstRunner.SUBMIT));
+
+        // the seeded evaluation was created once (no evaluation listed at first)
+        assertEquals(1, published.get());
+
+        try (Stream<Path> runs = Files.list(reportDir)) {
+            Path run = runs.findFirst().orElseThrow();
+            assertTrue(Files.exists(run.resolve("summary.csv")));
+            assertTrue(Files.exists(run.resolve("submit.hgrm")));
+            assertTrue(Files.readString(run.resolve("summary.csv")).contains("start," + STUDENTS + ",0,"));
+        }
+    }
+
+    private LoadTestProperties properties() {
+        LoadTestProperties p = new LoadTestProperties();
+        p.setGatewayUrl("http://127.0.0.1:" + gateway.getAddress().getPort());
+        p.setStudents(STUDENTS);
+        p.setConcurrency(8);
+        p.setRampUp(Duration.ofMillis(300));
+        p.setExamDuration(Duration.ofMillis(200));
+        p.setReportDir(reportDir);
+        p.getSeed().setEvaluations(1);
+        p.getSeed().setQuestions(2);
+        return p;
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        String path = ex.getRequestURI().getPath();
+        String method = ex.getRequestMethod();
+        ex.getRequestBody().readAllBytes();
+
+        if (path.equals("/auth/register") || path.equals("/auth/login")) {
+            reply(ex, 200, "{\"id\":7,\"fullName\":\"Load Student\",\"role\":\"STUDENT\",\"token\":\"jwt\"}");
+        } else if (path.equals("/api/v1/evaluations/published")) {
+            reply(ex, 200, published.get() == 0 ? "[]"
+                    : "[{\"id\":1,\"title\":\"" + ExamBurstRunner.TITLE_PREFIX + "Exam 1\",\"questionsCount\":2}]");
+        } else if (path.equals("/api/v1/evaluations") && method.equals("POST")) {
+            reply(ex, 200, "{\"id\":1}");
+        } else if (path.equals("/api/v1/evaluations/1/questions")) {
+            reply(ex, 200, "{}");
+        } else if (path.equals("/api/v1/evaluations/1/publish")) {
+            published.incrementAndGet();
+            reply(ex, 200, "{}");
+        } else if (path.equals("/api/v1/evaluations/1/start")) {
+            reply(ex, 200, "{\"submissionId\":" + nextSubmission.incrementAndGet()
+                    + ",\"questions\":[{\"id\":1,\"options\":[\"a\",\"b\"]},{\"id\":2,\"options\":[\"c\",\"d\"]}]}");
+        } else if (path.startsWith("/api/v1/submissions/") && path.endsWith("/submit")) {
+            long id = Long.parseLong(path.split("/")[4]);
+            if (id % 10 == 0) reply(ex, 409, "{}");
+            else reply(ex, 200, "{\"submissionId\":" + id + ",\"score\":50,\"status\":\"SUBMITTED\"}");
+        } else {
+            reply(ex, 404, "{}");
+        }
+    }
+
+    private static void reply(HttpExchange ex, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json");
+        ex.sendResponseHeaders(status, body.length);
+        ex.getResponseBody().write(body);
+        ex.close();
+    }
+}
@@ -35,8 +35,18 @@ export type DashboardStatsResponse = {
   scoreDistribution?: ScoreDistributionBucket[];
   topActivities?: TopActivity[];
   studentsPerformance?: StudentPerformance[];
+
+  // some upstream service did not answer in time: its figures are missing
+  partial?: boolean;
+  unavailableSources?: string[];
+  // dashboard snapshot: figures of the unavailable sources come from an earlier refresh
+  stale?: boolean;
 };
 
+// last refresh in which every source answered (figures confirmed), sent as a header so that it can move
+// without changing the ETag; generatedAt is when the figures last changed
+export const REFRESHED_AT_HEADER = "dashboard-refreshed-at";
+
 export const grapheApi = {
   getDashboardStats: async () => {
     try {
@@ -50,6 +60,9 @@ export const grapheApi = {
       if (error.response?.status === 403) {
         throw new Error("Accès refusé. Rôle administrateur requis.");
       }
+      if (error.response?.status === 503) {
+        throw new Error("Statistiques en cours de préparation. Veuillez réessayer dans quelques secondes.");
+      }
       if (error.response?.status === 500) {
         throw new Error("Erreur serveur. Veuillez réessayer plus tard.");
       }
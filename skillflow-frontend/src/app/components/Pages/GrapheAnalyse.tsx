@@ -14,7 +14,7 @@ import {
 import { Card, CardContent, CardDescription, CardHeader, CardTitle } from "../ui/card";
 import { Badge } from "../ui/badge";
 import { CircleCheck, TrendingUp, TriangleAlert, Clock } from "lucide-react";
-import { grapheApi, type DashboardStatsResponse } from "../../../api/grapheApi";
+import { grapheApi, REFRESHED_AT_HEADER, type DashboardStatsResponse } from "../../../api/grapheApi";
 
 function pct(n: number) {
   return `${Math.round(n)}%`;
@@ -22,6 +22,7 @@ function pct(n: number) {
 
 export function GrapheAnalyse() {
   const [stats, setStats] = useState<DashboardStatsResponse | null>(null);
+  const [refreshedAt, setRefreshedAt] = useState<string | null>(null);
   const [loading, setLoading] = useState(true);
   const [errorMsg, setErrorMsg] = useState<string | null>(null);
 
@@ -34,6 +35,7 @@ export function GrapheAnalyse() {
         const res = await grapheApi.getDashboardStats();
         if (!mounted) return;
         setStats(res.data);
+        setRefreshedAt(res.headers[REFRESHED_AT_HEADER] ?? null);
       } catch (e: any) {
         if (!mounted) return;
         setErrorMsg(e?.message ?? "Erreur de chargement des statistiques.");
@@ -168,6 +170,21 @@ export function GrapheAnalyse() {
                       <Badge variant="secondary">
                         {new Date(stats.generatedAt).toLocaleString()}
                       </Badge>
+                      {refreshedAt && (
+                        <Badge variant="outline">
+                          Vérifié le {new Date(refreshedAt).toLocaleString()}
+                        </Badge>
+                      )}
+                      {stats.partial && (
+                        <Badge variant="destructive">
+                          Partiel : {(stats.unavailableSources ?? []).join(", ")} indisponible(s)
+                        </Badge>
+                      )}
+                      {stats.stale && (
+                        <Badge variant="outline">
+                          Chiffres de la mise à jour précédente
+                        </Badge>
+                      )}
                     </div>
                   </CardContent>
                 </Card>